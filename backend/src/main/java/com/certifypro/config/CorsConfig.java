@@ -1,5 +1,6 @@
 package com.certifypro.config;
 
+import com.certifypro.dto.response.CursorPage;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -26,6 +27,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins(allowedOrigins)
                 .allowedMethods(allowedMethods)
                 .allowedHeaders(allowedHeaders.split(","))
+                .exposedHeaders(CursorPage.NEXT_CURSOR_HEADER)
                 .allowCredentials(allowCredentials)
                 .maxAge(3600);
     }
@@ -3,6 +3,7 @@ package com.certifypro.config;
 import com.certifypro.entity.*;
 import com.certifypro.repository.SkillRepository;
 import com.certifypro.repository.UserRepository;
+import com.certifypro.service.StatsCounters;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +21,7 @@ public class DataInitializer {
     private final UserRepository userRepository;
     private final SkillRepository skillRepository;
     private final PasswordEncoder passwordEncoder;
+    private final StatsCounters statsCounters;
 
     @Bean
     @Profile("dev")
@@ -36,12 +38,15 @@ public class DataInitializer {
             Skill recruitment = createAndSaveSkill("Recruitment");
             Skill screening = createAndSaveSkill("Technical Screening");
 
+            // All demo accounts share one password, so hash it once
+            String demoPassword = passwordEncoder.encode("password123");
+
             // Create admin user
             if (!userRepository.existsByEmail("admin@certifypro.com")) {
                 User admin = User.builder()
                         .email("admin@certifypro.com")
                         .username("admin")
-                        .password(passwordEncoder.encode("password123"))
+                        .password(demoPassword)
                         .role(UserRole.ADMIN)
                         .bio("Platform Administrator")
                         .skills(new HashSet<>())
@@ -50,6 +55,7 @@ public class DataInitializer {
                 admin.getSkills().add(management);
                 admin.getSkills().add(security);
                 userRepository.save(admin);
+                statsCounters.userRegistered(admin.getRole());
                 System.out.println("Created admin user: admin@certifypro.com / password123");
             }
 
@@ -58,7 +64,7 @@ public class DataInitializer {
                 User issuer = User.builder()
                         .email("issuer@certifypro.com")
                         .username("issuer")
-                        .password(passwordEncoder.encode("password123"))
+                        .password(demoPassword)
                         .role(UserRole.ISSUER)
                         .bio("Leading technology training institute")
                         .organization("TechCorp Academy")
@@ -68,6 +74,7 @@ public class DataInitializer {
                 issuer.getSkills().add(education);
                 issuer.getSkills().add(training);
                 userRepository.save(issuer);
+                statsCounters.userRegistered(issuer.getRole());
                 System.out.println("Created issuer user: issuer@certifypro.com / password123");
             }
 
@@ -76,7 +83,7 @@ public class DataInitializer {
                 User individual = User.builder()
                         .email("john@example.com")
                         .username("johndoe")
-                        .password(passwordEncoder.encode("password123"))
+                        .password(demoPassword)
                         .role(UserRole.INDIVIDUAL)
                         .bio("Software Developer passionate about blockchain technology")
                         .location("San Francisco, CA")
@@ -89,6 +96,7 @@ public class DataInitializer {
                 individual.getSkills().add(typescript);
                 individual.getSkills().add(nodejs);
                 userRepository.save(individual);
+                statsCounters.userRegistered(individual.getRole());
                 System.out.println("Created individual user: john@example.com / password123");
             }
 
@@ -97,7 +105,7 @@ public class DataInitializer {
                 User employer = User.builder()
                         .email("recruiter@techcorp.com")
                         .username("sarah_recruiter")
-                        .password(passwordEncoder.encode("password123"))
+                        .password(demoPassword)
                         .role(UserRole.EMPLOYER)
                         .bio("Senior Technical Recruiter at TechCorp")
                         .organization("TechCorp Inc.")
@@ -108,6 +116,7 @@ public class DataInitializer {
                 employer.getSkills().add(recruitment);
                 employer.getSkills().add(screening);
                 userRepository.save(employer);
+                statsCounters.userRegistered(employer.getRole());
                 System.out.println("Created employer user: recruiter@techcorp.com / password123");
             }
 
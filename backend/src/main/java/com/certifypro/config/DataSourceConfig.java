@@ -1,13 +1,26 @@
 package com.certifypro.config;
 
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Connection pools for the primary database and any read replicas. Pool settings come
+ * from {@code spring.datasource.hikari.*} and apply to every pool; read-only
+ * transactions are routed to replicas by {@link ReadReplicaRoutingDataSource}.
+ */
 @Configuration
 public class DataSourceConfig {
 
@@ -20,13 +33,68 @@ public class DataSourceConfig {
     @Value("${spring.datasource.password}")
     private String dbPassword;
 
+    // postgres:// or jdbc: URLs; jdbc: URLs use the primary's credentials
+    @Value("${app.datasource.replica-urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replica-max-lag:10s}")
+    private Duration replicaMaxLag;
+
+    @Value("${app.datasource.replica-check-interval:5s}")
+    private Duration replicaCheckInterval;
+
+    @Value("${app.datasource.replica-lag-query:" + ReadReplicaRoutingDataSource.POSTGRES_LAG_QUERY + "}")
+    private String replicaLagQuery;
+
+    // Server-side prepared statements cached per connection by the Postgres driver
+    @Value("${app.datasource.statement-cache-queries:256}")
+    private int statementCacheQueries;
+
+    @Value("${app.datasource.statement-cache-size-mib:5}")
+    private int statementCacheSizeMiB;
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariConfig poolSettings() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource routingDataSource(HikariConfig poolSettings, MeterRegistry meterRegistry) {
+        HikariDataSource primary = createPool(dbUrl, "primary", poolSettings, meterRegistry);
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            if (!replicaUrl.isBlank()) {
+                replicas.add(createPool(replicaUrl.trim(), "replica-" + (replicas.size() + 1), poolSettings,
+                        meterRegistry));
+            }
+        }
+        return new ReadReplicaRoutingDataSource(primary, replicas, replicaLagQuery, replicaMaxLag,
+                replicaCheckInterval, meterRegistry);
+    }
+
+    /**
+     * The application's DataSource. Fetching the physical connection is deferred to the
+     * first statement, by which point the transaction's read-only flag is known and the
+     * routing decision can use it.
+     */
     @Bean
     @Primary
-    public DataSource dataSource() {
-        if (dbUrl != null && dbUrl.startsWith("postgres://")) {
+    public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createPool(String url, String poolName, HikariConfig poolSettings,
+            MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        poolSettings.copyStateTo(dataSource);
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        if (url != null && url.startsWith("postgres://")) {
             try {
                 // Manual parsing to avoid URI issues with special chars in password
-                String noProtocol = dbUrl.substring("postgres://".length());
+                String noProtocol = url.substring("postgres://".length());
                 int atIndex = noProtocol.lastIndexOf('@');
 
                 if (atIndex != -1) {
@@ -37,12 +105,10 @@ public class DataSourceConfig {
                     String username = creds[0];
                     String password = creds.length > 1 ? creds[1] : "";
 
-                    String jdbcUrl = "jdbc:postgresql://" + hostPortDb;
-
-                    HikariDataSource dataSource = new HikariDataSource();
-                    dataSource.setJdbcUrl(jdbcUrl);
+                    dataSource.setJdbcUrl("jdbc:postgresql://" + hostPortDb);
                     dataSource.setUsername(username);
                     dataSource.setPassword(password);
+                    applyPostgresProperties(dataSource);
                     return dataSource;
                 }
             } catch (Exception e) {
@@ -50,26 +116,20 @@ public class DataSourceConfig {
             }
         }
 
-        // Fallback for standard JDBC URLs or local development
-        // We need to construct it manually if we are taking over the bean definition
-        // But for standard cases, Spring handles it. However, since we are defining the
-        // @Bean,
-        // we must return a valid DataSource even for the normal case.
-        // It's safer to rely on Spring's properties if it's not a postgres:// URL.
-        // But getting the properties here + creating the bean might be
-        // redundant/complex if we want to fallback.
-        // A better approach for the 'else' block is to return null and let Spring's
-        // ConditionalOnMissingBean handle it?
-        // No, @Primary bean replaces it.
-        // So we should build a standard datasource if it's not the special case.
-
-        HikariDataSource dataSource = new HikariDataSource();
-        dataSource.setJdbcUrl(dbUrl);
+        // Standard JDBC URLs (including local H2) take credentials from spring.datasource.*
+        dataSource.setJdbcUrl(url);
         dataSource.setUsername(dbUsername);
         dataSource.setPassword(dbPassword);
-        // User/Pass will be picked up from properties
-        // spring.datasource.username/password normally
-        // But since we are creating the bean manually, we should inject them.
+        if (url != null && url.startsWith("jdbc:postgresql:")) {
+            applyPostgresProperties(dataSource);
+        }
         return dataSource;
     }
+
+    private void applyPostgresProperties(HikariDataSource dataSource) {
+        // Let the driver collapse JDBC insert batches into multi-row statements
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+        dataSource.addDataSourceProperty("preparedStatementCacheQueries", String.valueOf(statementCacheQueries));
+        dataSource.addDataSourceProperty("preparedStatementCacheSizeMiB", String.valueOf(statementCacheSizeMiB));
+    }
 }
@@ -0,0 +1,24 @@
+package com.certifypro.config;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Which database the application is connected to, for the few native queries that use
+ * PostgreSQL-only features and keep a portable fallback for H2 in development.
+ */
+@Component
+public class DatabasePlatform {
+
+    private final boolean postgres;
+
+    public DatabasePlatform(JdbcTemplate jdbcTemplate) {
+        this.postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    public boolean isPostgres() {
+        return postgres;
+    }
+}
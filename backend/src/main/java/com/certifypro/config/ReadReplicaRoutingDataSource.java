@@ -0,0 +1,138 @@
+package com.certifypro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to read replicas, round-robin, and everything else to the
+ * primary. Each replica's replication lag is polled in the background; a replica that is
+ * unreachable or further behind than the allowed lag takes no reads until it catches up,
+ * and reads fall back to the primary when no replica qualifies.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    // Zero once everything received has been replayed, so an idle replica does not look stale
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    private static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final ScheduledExecutorService lagChecker;
+
+    public ReadReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+            String lagQuery, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (HikariDataSource pool : replicaPools) {
+            Replica replica = new Replica(pool);
+            replicas.add(replica);
+            targets.put(pool.getPoolName(), pool);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("pool", pool.getPoolName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("pool", pool.getPoolName())
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        if (replicas.isEmpty()) {
+            this.lagChecker = null;
+        } else {
+            this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-lag-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Replicas start out of rotation until their first check passes
+            lagChecker.scheduleWithFixedDelay(this::checkReplicas, 0, checkInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+            log.info("Routing read-only transactions to {} replica(s), max lag {}", replicas.size(), maxLag);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                return replica.pool.getPoolName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.pool.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet result = statement.executeQuery(lagQuery)) {
+                long lag = result.next() ? result.getLong(1) : 0;
+                replica.lagMillis = lag;
+                replica.healthy = lag <= maxLagMillis;
+            } catch (Exception e) {
+                replica.healthy = false;
+                log.debug("Replica {} lag check failed", replica.pool.getPoolName(), e);
+            }
+            if (wasHealthy != replica.healthy) {
+                log.warn("Replica {} {} read rotation (lag {} ms)", replica.pool.getPoolName(),
+                        replica.healthy ? "joined" : "left", replica.lagMillis);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        replicas.forEach(replica -> replica.pool.close());
+        primary.close();
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
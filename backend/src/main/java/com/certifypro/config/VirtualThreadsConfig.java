@@ -0,0 +1,27 @@
+package com.certifypro.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Guard for the opt-in {@code virtual-threads} profile. Spring Boot silently ignores
+ * {@code spring.threads.virtual.enabled} below Java 21, so fail at startup instead of
+ * running on platform threads with a pool sized for virtual ones.
+ */
+@Configuration
+@Profile("virtual-threads")
+@Slf4j
+public class VirtualThreadsConfig {
+
+    @PostConstruct
+    public void checkRuntime() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            throw new IllegalStateException("The virtual-threads profile needs Java 21 or later, running on Java "
+                    + feature + "; build with -Pjava21 and run on a Java 21 runtime");
+        }
+        log.info("Request handling, async tasks and scheduled jobs run on virtual threads");
+    }
+}
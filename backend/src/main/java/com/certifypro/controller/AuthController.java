@@ -1,35 +1,60 @@
 package com.certifypro.controller;
 
 import com.certifypro.dto.request.LoginRequest;
+import com.certifypro.dto.request.RefreshTokenRequest;
 import com.certifypro.dto.request.RegisterRequest;
 import com.certifypro.dto.response.ApiResponse;
 import com.certifypro.dto.response.AuthResponse;
 import com.certifypro.dto.response.UserResponse;
+import com.certifypro.security.LoginRateLimiter;
+import com.certifypro.security.PasswordHashingExecutor;
 import com.certifypro.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginRateLimiter loginRateLimiter;
 
+    // Hashing runs on a bounded pool; the request thread is released while it waits
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody RegisterRequest request) {
-        AuthResponse response = authService.register(request);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success("User registered successfully", response));
+    public CompletableFuture<ResponseEntity<ApiResponse<AuthResponse>>> register(
+            @Valid @RequestBody RegisterRequest request) {
+        return passwordHashingExecutor.submit("register", () -> authService.register(request))
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("User registered successfully", response)));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authService.login(request);
-        return ResponseEntity.ok(ApiResponse.success("Login successful", response));
+    public CompletableFuture<ResponseEntity<ApiResponse<AuthResponse>>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        // Throttled before queueing, so rejected attempts never reach the password encoder
+        String clientIp = httpRequest.getRemoteAddr();
+        loginRateLimiter.acquire(clientIp, request.getEmail());
+        return passwordHashingExecutor.submit("login", () -> authService.login(request))
+                .thenApply(response -> {
+                    // Only failed attempts count against the account
+                    loginRateLimiter.succeeded(clientIp, request.getEmail());
+                    return ResponseEntity.ok(ApiResponse.success("Login successful", response));
+                });
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(ApiResponse.success("Token refreshed successfully", response));
     }
 
     @GetMapping("/verify")
@@ -41,8 +66,11 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
-        // With JWT, logout is handled client-side by removing the token
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        String accessToken = token != null && token.startsWith("Bearer ") ? token.substring(7) : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
         return ResponseEntity.ok(ApiResponse.success("Logout successful", null));
     }
 }
@@ -1,19 +1,35 @@
 package com.certifypro.controller;
 
+import com.certifypro.dto.request.BatchIssueCertificateRequest;
 import com.certifypro.dto.request.CertificateRequest;
+import com.certifypro.dto.response.AnchorProofResponse;
 import com.certifypro.dto.response.ApiResponse;
+import com.certifypro.dto.response.BatchIssueResponse;
 import com.certifypro.dto.response.CertificateResponse;
+import com.certifypro.dto.response.CursorPage;
+import com.certifypro.service.CertificateAnchorService;
+import com.certifypro.service.CertificateBatchParser;
+import com.certifypro.service.CertificateExportWriter;
 import com.certifypro.service.CertificateService;
+import com.certifypro.service.QRCodeService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/certificates")
@@ -21,6 +37,10 @@ import java.util.UUID;
 public class CertificateController {
 
     private final CertificateService certificateService;
+    private final CertificateBatchParser certificateBatchParser;
+    private final CertificateExportWriter certificateExportWriter;
+    private final QRCodeService qrCodeService;
+    private final CertificateAnchorService certificateAnchorService;
 
     @PostMapping("/issue")
     @PreAuthorize("hasRole('ISSUER')")
@@ -33,20 +53,78 @@ public class CertificateController {
                 .body(ApiResponse.success("Certificate issued successfully", response));
     }
 
+    @PostMapping(value = "/issue/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ISSUER')")
+    public ResponseEntity<ApiResponse<BatchIssueResponse>> issueCertificates(
+            @Valid @RequestBody BatchIssueCertificateRequest request,
+            Authentication authentication) {
+        String issuerUsername = authentication.getName();
+        BatchIssueResponse response = certificateService.issueCertificates(
+                request.getCertificates().stream().map(CertificateBatchParser.Row::of).iterator(), issuerUsername);
+        return ResponseEntity.ok(ApiResponse.success(batchMessage(response), response));
+    }
+
+    @PostMapping(value = "/issue/batch", consumes = { CertificateBatchParser.NDJSON_VALUE,
+            CertificateBatchParser.CSV_VALUE })
+    @PreAuthorize("hasRole('ISSUER')")
+    public ResponseEntity<ApiResponse<BatchIssueResponse>> issueCertificatesFromStream(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        String issuerUsername = authentication.getName();
+        BatchIssueResponse response = certificateService.issueCertificates(
+                certificateBatchParser.parse(request.getInputStream(), contentType), issuerUsername);
+        return ResponseEntity.ok(ApiResponse.success(batchMessage(response), response));
+    }
+
     @GetMapping("/my-certificates")
     @PreAuthorize("hasRole('INDIVIDUAL')")
-    public ResponseEntity<ApiResponse<List<CertificateResponse>>> getMyCertificates(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<CertificateResponse>>> getMyCertificates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
         String username = authentication.getName();
-        List<CertificateResponse> certificates = certificateService.getUserCertificates(username);
-        return ResponseEntity.ok(ApiResponse.success("Certificates retrieved successfully", certificates));
+        if (cursor == null && limit == null) {
+            List<CertificateResponse> certificates = certificateService.getUserCertificates(username);
+            return ResponseEntity.ok(ApiResponse.success("Certificates retrieved successfully", certificates));
+        }
+        CursorPage<CertificateResponse> page = certificateService.getUserCertificates(username, cursor, limit);
+        return page.toResponse("Certificates retrieved successfully");
     }
 
     @GetMapping("/issued")
     @PreAuthorize("hasRole('ISSUER')")
-    public ResponseEntity<ApiResponse<List<CertificateResponse>>> getIssuedCertificates(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<CertificateResponse>>> getIssuedCertificates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
         String issuerUsername = authentication.getName();
-        List<CertificateResponse> certificates = certificateService.getIssuedCertificates(issuerUsername);
-        return ResponseEntity.ok(ApiResponse.success("Issued certificates retrieved successfully", certificates));
+        if (cursor == null && limit == null) {
+            List<CertificateResponse> certificates = certificateService.getIssuedCertificates(issuerUsername);
+            return ResponseEntity.ok(ApiResponse.success("Issued certificates retrieved successfully", certificates));
+        }
+        CursorPage<CertificateResponse> page = certificateService.getIssuedCertificates(issuerUsername, cursor,
+                limit);
+        return page.toResponse("Issued certificates retrieved successfully");
+    }
+
+    @GetMapping("/issued/export")
+    @PreAuthorize("hasRole('ISSUER')")
+    public ResponseEntity<StreamingResponseBody> exportIssuedCertificates(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) List<String> fields,
+            Authentication authentication) {
+        String issuerUsername = authentication.getName();
+        CertificateExportWriter.Format exportFormat = certificateExportWriter.resolveFormat(format);
+        List<String> exportFields = certificateExportWriter.resolveFields(fields);
+
+        StreamingResponseBody body = out -> certificateService.exportIssuedCertificates(
+                issuerUsername, exportFormat, exportFields, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"certificates." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -65,10 +143,64 @@ public class CertificateController {
         return ResponseEntity.ok(ApiResponse.success("Certificate revoked successfully", null));
     }
 
+    @GetMapping("/{verificationId}/qr.png")
+    public ResponseEntity<byte[]> getQrCodePng(
+            @PathVariable String verificationId,
+            @RequestParam(name = "v", required = false) String version,
+            WebRequest webRequest) {
+        return qrCodeResponse(verificationId, version, QRCodeService.DEFAULT_SIZE, QRCodeService.DEFAULT_MARGIN,
+                QRCodeService.Format.PNG, webRequest);
+    }
+
+    @GetMapping("/{verificationId}/qr")
+    public ResponseEntity<byte[]> getQrCode(
+            @PathVariable String verificationId,
+            @RequestParam(defaultValue = "" + QRCodeService.DEFAULT_SIZE) int size,
+            @RequestParam(defaultValue = "" + QRCodeService.DEFAULT_MARGIN) int margin,
+            @RequestParam(defaultValue = "png") String format,
+            @RequestParam(name = "v", required = false) String version,
+            WebRequest webRequest) {
+        return qrCodeResponse(verificationId, version, size, margin, qrCodeService.resolveFormat(format),
+                webRequest);
+    }
+
     @GetMapping("/verify/{verificationId}")
     public ResponseEntity<ApiResponse<CertificateResponse>> verifyCertificate(
             @PathVariable String verificationId) {
         CertificateResponse certificate = certificateService.verifyCertificateByVerificationId(verificationId);
         return ResponseEntity.ok(ApiResponse.success("Certificate verified successfully", certificate));
     }
+
+    @GetMapping("/verify/{verificationId}/proof")
+    public ResponseEntity<ApiResponse<AnchorProofResponse>> getAnchorProof(@PathVariable String verificationId) {
+        AnchorProofResponse proof = certificateAnchorService.getProof(verificationId);
+        return ResponseEntity.ok(ApiResponse.success("Anchor proof retrieved successfully", proof));
+    }
+
+    private ResponseEntity<byte[]> qrCodeResponse(String verificationId, String version, int size, int margin,
+            QRCodeService.Format format, WebRequest webRequest) {
+        qrCodeService.validate(size, margin);
+        // Unknown verification IDs fail here, before any 304; known ones usually come from
+        // the verification cache, so revalidation rarely touches the database
+        String token = certificateService.getVerificationToken(verificationId);
+        String eTag = qrCodeService.qrCodeETag(verificationId, token, size, margin, format);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        byte[] image = qrCodeService.render(verificationId, token, size, margin, format);
+        // Only a URL naming the current image version can be cached forever; any other
+        // URL may later serve a different image, so caches revalidate it by ETag
+        CacheControl cacheControl = qrCodeService.imageVersion().equals(version)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache().cachePublic();
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(image);
+    }
+
+    private String batchMessage(BatchIssueResponse response) {
+        return "Batch processed: " + response.getIssued() + " issued, " + response.getFailed() + " failed";
+    }
 }
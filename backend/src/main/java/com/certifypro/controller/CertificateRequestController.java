@@ -5,6 +5,7 @@ import com.certifypro.dto.request.CreateCertificateRequestDto;
 import com.certifypro.dto.request.RejectCertificateRequestDto;
 import com.certifypro.dto.response.ApiResponse;
 import com.certifypro.dto.response.CertificateRequestResponse;
+import com.certifypro.dto.response.CursorPage;
 import com.certifypro.service.CertificateRequestService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -46,18 +47,34 @@ public class CertificateRequestController {
     @GetMapping("/pending")
     @PreAuthorize("hasRole('ISSUER')")
     public ResponseEntity<ApiResponse<List<CertificateRequestResponse>>> getPendingRequests(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
             Authentication authentication) {
         String issuerUsername = authentication.getName();
-        List<CertificateRequestResponse> requests = certificateRequestService.getPendingRequests(issuerUsername);
-        return ResponseEntity.ok(ApiResponse.success("Pending requests retrieved successfully", requests));
+        if (cursor == null && limit == null) {
+            List<CertificateRequestResponse> requests = certificateRequestService.getPendingRequests(issuerUsername);
+            return ResponseEntity.ok(ApiResponse.success("Pending requests retrieved successfully", requests));
+        }
+        CursorPage<CertificateRequestResponse> page = certificateRequestService.getPendingRequests(issuerUsername,
+                cursor, limit);
+        return page.toResponse("Pending requests retrieved successfully");
     }
 
     @GetMapping("/all")
     @PreAuthorize("hasRole('ISSUER')")
-    public ResponseEntity<ApiResponse<List<CertificateRequestResponse>>> getAllRequests(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<CertificateRequestResponse>>> getAllRequests(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
         String issuerUsername = authentication.getName();
-        List<CertificateRequestResponse> requests = certificateRequestService.getAllRequestsForIssuer(issuerUsername);
-        return ResponseEntity.ok(ApiResponse.success("All requests retrieved successfully", requests));
+        if (cursor == null && limit == null) {
+            List<CertificateRequestResponse> requests = certificateRequestService
+                    .getAllRequestsForIssuer(issuerUsername);
+            return ResponseEntity.ok(ApiResponse.success("All requests retrieved successfully", requests));
+        }
+        CursorPage<CertificateRequestResponse> page = certificateRequestService
+                .getAllRequestsForIssuer(issuerUsername, cursor, limit);
+        return page.toResponse("All requests retrieved successfully");
     }
 
     @PostMapping("/{id}/approve")
@@ -0,0 +1,54 @@
+package com.certifypro.controller;
+
+import com.certifypro.dto.response.ApiResponse;
+import com.certifypro.dto.response.CandidateMatchResponse;
+import com.certifypro.dto.response.CertificateSearchResult;
+import com.certifypro.dto.response.CursorPage;
+import com.certifypro.dto.response.ProfileSearchResult;
+import com.certifypro.service.CandidateMatcher;
+import com.certifypro.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('EMPLOYER', 'ADMIN')")
+public class SearchController {
+
+    private final SearchService searchService;
+    private final CandidateMatcher candidateMatcher;
+
+    @GetMapping("/certificates")
+    public ResponseEntity<ApiResponse<List<CertificateSearchResult>>> searchCertificates(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<CertificateSearchResult> page = searchService.searchCertificates(query, cursor, limit);
+        return page.toResponse("Certificates found");
+    }
+
+    @GetMapping("/profiles")
+    public ResponseEntity<ApiResponse<List<ProfileSearchResult>>> searchProfiles(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<ProfileSearchResult> page = searchService.searchProfiles(query, cursor, limit);
+        return page.toResponse("Profiles found");
+    }
+
+    @GetMapping("/candidates")
+    public ResponseEntity<ApiResponse<List<CandidateMatchResponse>>> matchCandidates(
+            @RequestParam List<String> skills,
+            @RequestParam(required = false) Integer limit) {
+        List<CandidateMatchResponse> candidates = candidateMatcher.match(skills, limit);
+        return ResponseEntity.ok(ApiResponse.success("Candidates matched", candidates));
+    }
+}
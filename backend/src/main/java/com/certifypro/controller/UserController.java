@@ -7,20 +7,27 @@ import com.certifypro.dto.response.EmployerStatsResponse;
 import com.certifypro.dto.response.IssuerStatsResponse;
 import com.certifypro.dto.response.ProfilePictureUploadResponse;
 import com.certifypro.dto.response.UserResponse;
+import com.certifypro.dto.response.VerificationAnalyticsResponse;
 import com.certifypro.service.UserService;
+import com.certifypro.service.VerificationAnalyticsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final VerificationAnalyticsService verificationAnalyticsService;
 
     @GetMapping("/profile")
     public ResponseEntity<ApiResponse<UserResponse>> getCurrentUserProfile(Authentication authentication) {
@@ -83,4 +90,26 @@ public class UserController {
         EmployerStatsResponse response = userService.getEmployerStats(username);
         return ResponseEntity.ok(ApiResponse.success("Employer stats retrieved successfully", response));
     }
+
+    @GetMapping("/{username}/verification-analytics")
+    @PreAuthorize("hasRole('ADMIN') or #username == authentication.name")
+    public ResponseEntity<ApiResponse<VerificationAnalyticsResponse>> getVerificationAnalytics(
+            @PathVariable String username,
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        VerificationAnalyticsResponse response =
+                verificationAnalyticsService.getIssuerAnalytics(username, granularity, from, to);
+        return ResponseEntity.ok(ApiResponse.success("Verification analytics retrieved successfully", response));
+    }
+
+    @GetMapping("/admin/verification-analytics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<VerificationAnalyticsResponse>> getGlobalVerificationAnalytics(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        VerificationAnalyticsResponse response = verificationAnalyticsService.getGlobalAnalytics(granularity, from, to);
+        return ResponseEntity.ok(ApiResponse.success("Verification analytics retrieved successfully", response));
+    }
 }
@@ -1,11 +1,20 @@
 package com.certifypro.controller;
 
+import com.certifypro.dto.request.OfflineVerificationRequest;
 import com.certifypro.dto.response.ApiResponse;
 import com.certifypro.dto.response.CertificateResponse;
+import com.certifypro.dto.response.CertificateTokenKeyResponse;
+import com.certifypro.dto.response.OfflineVerificationResponse;
+import com.certifypro.dto.response.RevocationDeltaResponse;
+import com.certifypro.dto.response.RevocationSnapshotResponse;
 import com.certifypro.service.CertificateService;
+import com.certifypro.service.OfflineVerificationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/verify")
@@ -13,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class VerificationController {
 
     private final CertificateService certificateService;
+    private final OfflineVerificationService offlineVerificationService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<CertificateResponse>> verifyCertificate(
@@ -21,6 +31,46 @@ public class VerificationController {
         return ResponseEntity.ok(ApiResponse.success("Certificate verified successfully", certificate));
     }
 
+    @GetMapping("/offline")
+    public ResponseEntity<ApiResponse<OfflineVerificationResponse>> verifyOffline(@RequestParam String token) {
+        OfflineVerificationResponse certificate = offlineVerificationService.verify(token);
+        return ResponseEntity.ok(ApiResponse.success("Certificate token verified successfully", certificate));
+    }
+
+    @PostMapping("/offline")
+    public ResponseEntity<ApiResponse<OfflineVerificationResponse>> verifyOfflineToken(
+            @Valid @RequestBody OfflineVerificationRequest request) {
+        OfflineVerificationResponse certificate = offlineVerificationService.verify(request.getToken());
+        return ResponseEntity.ok(ApiResponse.success("Certificate token verified successfully", certificate));
+    }
+
+    @GetMapping("/offline/key")
+    public ResponseEntity<ApiResponse<CertificateTokenKeyResponse>> getTokenKey() {
+        CertificateTokenKeyResponse key = offlineVerificationService.getPublicKey();
+        return ResponseEntity.ok(ApiResponse.success("Certificate token key retrieved successfully", key));
+    }
+
+    @GetMapping("/revocations")
+    public ResponseEntity<ApiResponse<RevocationSnapshotResponse>> getRevocations(WebRequest webRequest) {
+        String eTag = offlineVerificationService.revocationETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        RevocationSnapshotResponse snapshot = offlineVerificationService.getRevocationSnapshot();
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Revocation snapshot retrieved successfully", snapshot));
+    }
+
+    @GetMapping("/revocations/delta")
+    public ResponseEntity<ApiResponse<RevocationDeltaResponse>> getRevocationDelta(
+            @RequestParam String epoch,
+            @RequestParam long since) {
+        RevocationDeltaResponse delta = offlineVerificationService.getRevocationDelta(epoch, since);
+        return ResponseEntity.ok(ApiResponse.success("Revocation delta retrieved successfully", delta));
+    }
+
     @GetMapping("/{certificateId}")
     public ResponseEntity<ApiResponse<CertificateResponse>> verifyCertificateById(
             @PathVariable String certificateId) {
@@ -0,0 +1,14 @@
+package com.certifypro.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchIssueCertificateRequest {
+
+    // Rows are validated individually so one bad row does not reject the whole batch
+    @NotEmpty(message = "At least one certificate is required")
+    private List<CertificateRequest> certificates;
+}
@@ -0,0 +1,11 @@
+package com.certifypro.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class OfflineVerificationRequest {
+
+    @NotBlank(message = "Token is required")
+    private String token;
+}
@@ -0,0 +1,24 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnchorProofResponse {
+    private String verificationId;
+    private String blockchainHash;
+    private boolean anchored;
+    private List<String> merkleProof; // Sibling hashes from leaf to root, prefixed L or R
+    private String merkleRoot;
+    private String ledger;
+    private String ledgerReference;
+    private LocalDateTime anchoredAt;
+}
@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class AuthResponse {
     private UserResponse user;
     private String token;
+    private String refreshToken;
+    private long expiresIn; // Access token lifetime in seconds
 }
@@ -0,0 +1,33 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchIssueResponse {
+    private int total;
+    private int issued;
+    private int failed;
+    private List<RowResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private int row;
+        private String recipientEmail;
+        private boolean success;
+        private UUID certificateId;
+        private String verificationId;
+        private String error;
+    }
+}
@@ -0,0 +1,23 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatchResponse {
+    private UUID id;
+    private String username;
+    private double score;
+    // Requested skills backed by an active certificate
+    private Set<String> verifiedSkills;
+    // Requested skills only listed on the profile
+    private Set<String> claimedSkills;
+}
@@ -1,6 +1,7 @@
 package com.certifypro.dto.response;
 
 import com.certifypro.entity.CertificateStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,17 +12,19 @@ import java.util.Set;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CertificateResponse {
     private UUID id;
+    private Long serialNumber;
     private String name;
     private String description;
     private LocalDate issuedDate;
     private LocalDate expiryDate;
     private CertificateStatus status;
     private String blockchainHash;
+    private Boolean anchored;
     private String qrCode;
     private String verificationId;
     private Integer views;
@@ -30,4 +33,7 @@ public class CertificateResponse {
     private String issuerName;
     private String issuerOrganization;
     private Set<String> skills;
+    private String verificationToken; // Signed token for offline verification; single-certificate views only
+    @JsonIgnore
+    private boolean verifiedBefore; // Verification snapshots only: first verification already recorded
 }
@@ -0,0 +1,17 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CertificateSearchResult {
+    private CertificateResponse certificate;
+    private double score;
+    // HTML-escaped excerpt with matches wrapped in <mark>
+    private String highlight;
+}
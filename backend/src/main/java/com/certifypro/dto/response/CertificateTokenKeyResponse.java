@@ -0,0 +1,16 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CertificateTokenKeyResponse {
+    private String algorithm;
+    private String keyId;
+    private String publicKey; // Base64 X.509 SubjectPublicKeyInfo
+}
@@ -0,0 +1,49 @@
+package com.certifypro.dto.response;
+
+import com.certifypro.util.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private List<T> items;
+    private String nextCursor;
+
+    /**
+     * Build a page from rows fetched with {@code limit + 1}; the extra row only signals
+     * that another page exists and is not returned.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit, Function<E, T> converter,
+            Function<E, KeysetCursor> position) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        return CursorPage.<T>builder()
+                .items(pageRows.stream().map(converter).toList())
+                .nextCursor(hasMore ? position.apply(pageRows.get(limit - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * Respond with the page's items, passing the next cursor, if any, in
+     * {@link #NEXT_CURSOR_HEADER}
+     */
+    public ResponseEntity<ApiResponse<List<T>>> toResponse(String message) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(ApiResponse.success(message, items));
+    }
+}
@@ -14,4 +14,6 @@ public class EmployerStatsResponse {
     private Long activeJobs;
     private Long candidatesReviewed;
     private Double hiringRate;
+    // Individuals currently returned by skill matching
+    private Long matchableCandidates;
 }
@@ -0,0 +1,26 @@
+package com.certifypro.dto.response;
+
+import com.certifypro.entity.CertificateStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineVerificationResponse {
+    private UUID id;
+    private String verificationId;
+    private String name;
+    private String holderUsername;
+    private String issuerName;
+    private LocalDate issuedDate;
+    private LocalDate expiryDate;
+    private CertificateStatus status;
+    private String keyId; // Key the token was verified with
+}
@@ -0,0 +1,25 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileSearchResult {
+    private UUID id;
+    private String username;
+    private String avatar;
+    private String organization;
+    private String location;
+    private Set<String> skills;
+    private double score;
+    // HTML-escaped excerpt with matches wrapped in <mark>
+    private String highlight;
+}
@@ -0,0 +1,19 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationDeltaResponse {
+    private String epoch;
+    private long version;
+    private boolean snapshotRequired; // Client must reload the snapshot; revokedSerials is empty
+    private List<Long> revokedSerials;
+}
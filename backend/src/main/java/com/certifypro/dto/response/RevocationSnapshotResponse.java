@@ -0,0 +1,17 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationSnapshotResponse {
+    private String epoch;
+    private long version;
+    private String encoding;
+    private String bitmap;
+}
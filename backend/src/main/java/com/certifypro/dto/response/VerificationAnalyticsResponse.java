@@ -0,0 +1,40 @@
+package com.certifypro.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationAnalyticsResponse {
+    private String granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Long totalVerifications;
+    private List<Bucket> buckets;
+    private List<SourceCount> topSources;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDateTime start;
+        private Long count;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SourceCount {
+        private String source;
+        private Long count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.certifypro.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One Merkle root committed to the ledger, covering every certificate that carries this
+ * batch's ID. Rows are written once and never updated.
+ */
+@Entity
+@Table(name = "anchor_batches")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnchorBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "merkle_root", nullable = false, length = 66)
+    private String merkleRoot;
+
+    @Column(name = "leaf_count", nullable = false)
+    private Integer leafCount;
+
+    @Column(nullable = false)
+    private String ledger; // Ledger backend the root was committed to
+
+    @Column(name = "ledger_reference", nullable = false)
+    private String ledgerReference; // Backend-specific locator, e.g. entry number or transaction hash
+
+    @CreatedDate
+    @Column(name = "anchored_at", nullable = false, updatable = false)
+    private LocalDateTime anchoredAt;
+}
@@ -2,7 +2,10 @@ package com.certifypro.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
@@ -12,17 +15,22 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "certificates")
+@DynamicUpdate
+@Table(name = "certificates", indexes = {
+        @Index(name = "idx_certificates_holder_created", columnList = "holder_id, created_at, id"),
+        @Index(name = "idx_certificates_issuer_created", columnList = "issuer_id, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Certificate {
+public class Certificate implements Persistable<UUID> {
 
+    // Assigned by the application so the blockchain hash can be computed before the
+    // first (and only) insert
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false)
@@ -45,8 +53,22 @@ public class Certificate {
     @Column(name = "blockchain_hash", unique = true)
     private String blockchainHash;
 
-    @Column(name = "qr_code", columnDefinition = "TEXT")
-    private String qrCode;
+    // Format of blockchainHash; legacy hashes cannot be recomputed from the fields
+    @Column(name = "hash_version", nullable = false)
+    private Integer hashVersion;
+
+    // Dense sequence number assigned by the database; indexes the revocation bitmap
+    @Column(name = "serial_number", unique = true, insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED BY DEFAULT AS IDENTITY")
+    private Long serialNumber;
+
+    // Set once the hash is included in an anchored Merkle root; null while queued. The
+    // queue's partial index cannot be declared here and lives in the migrations only.
+    @Column(name = "anchor_batch_id")
+    private UUID anchorBatchId;
+
+    @Column(name = "merkle_proof", columnDefinition = "TEXT")
+    private String merkleProof; // Inclusion proof of blockchainHash under the batch root
 
     @Column(name = "verification_id", unique = true, nullable = false)
     private String verificationId; // Unique ID for public verification
@@ -55,6 +77,10 @@ public class Certificate {
     @Builder.Default
     private Integer views = 0;
 
+    // Written only by CertificateRepository.markFirstVerified, never by an entity save
+    @Column(name = "first_verified_at", insertable = false, updatable = false)
+    private LocalDateTime firstVerifiedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "holder_id", nullable = false)
     private User holder;
@@ -63,7 +89,9 @@ public class Certificate {
     @JoinColumn(name = "issuer_id", nullable = false)
     private User issuer;
 
-    @ManyToMany(fetch = FetchType.EAGER, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+    // Loaded on demand; certificates loaded together initialise their skills together
+    @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+    @BatchSize(size = 50)
     @JoinTable(name = "certificate_skills", joinColumns = @JoinColumn(name = "certificate_id"), inverseJoinColumns = @JoinColumn(name = "skill_id"))
     @Builder.Default
     private Set<Skill> skills = new HashSet<>();
@@ -72,6 +100,30 @@ public class Certificate {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PrePersist
+    void assignId() {
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     // Helper methods
     public void addSkill(Skill skill) {
         skills.add(skill);
@@ -13,7 +13,11 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "certificate_requests")
+@Table(name = "certificate_requests", indexes = {
+        @Index(name = "idx_certificate_requests_issuer_requested", columnList = "issuer_id, requested_at, id"),
+        @Index(name = "idx_certificate_requests_issuer_status_requested", columnList = "issuer_id, status, requested_at, id"),
+        @Index(name = "idx_certificate_requests_requester_requested", columnList = "requester_id, requested_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,44 @@
+package com.certifypro.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * One dashboard counter bucket. Written only by
+ * {@link com.certifypro.service.StatsCounters}; mapped so the schema is validated and
+ * created alongside the other tables.
+ */
+@Entity
+@Table(name = "stats_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsCounter {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(length = 100)
+        private String scope;
+
+        @Column(length = 64)
+        private String metric;
+
+        // LocalDate.EPOCH for the running total
+        @Column(name = "bucket_date")
+        private LocalDate bucketDate;
+    }
+}
@@ -0,0 +1,43 @@
+package com.certifypro.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One certificate verification. Inserted in batches by
+ * {@link com.certifypro.service.VerificationEventPipeline}; on PostgreSQL the table is
+ * partitioned by month of {@code verified_at}.
+ */
+@Entity
+@Table(name = "verification_events", indexes = {
+        @Index(name = "idx_verification_events_certificate", columnList = "certificate_id, verified_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "certificate_id", nullable = false)
+    private UUID certificateId;
+
+    @Column(name = "issuer_username", nullable = false, length = 100)
+    private String issuerUsername;
+
+    @Column(nullable = false, length = 32)
+    private String channel;
+
+    // Host of the page the verification came from, or "direct"
+    @Column(nullable = false)
+    private String source;
+
+    @Column(name = "verified_at", nullable = false)
+    private LocalDateTime verifiedAt;
+}
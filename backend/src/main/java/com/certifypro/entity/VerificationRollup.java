@@ -0,0 +1,45 @@
+package com.certifypro.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Verification count of one scope in one minute, hour or day bucket. Written only by
+ * {@link com.certifypro.service.VerificationEventPipeline}.
+ */
+@Entity
+@Table(name = "verification_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationRollup {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(length = 100)
+        private String scope;
+
+        @Column(length = 8)
+        private String granularity;
+
+        @Column(name = "bucket_start")
+        private LocalDateTime bucketStart;
+
+        // Empty for the scope's total
+        private String source;
+    }
+}
@@ -1,8 +1,10 @@
 package com.certifypro.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.FieldError;
@@ -56,6 +58,21 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
         }
 
+        @ExceptionHandler(TooManyRequestsException.class)
+        public ResponseEntity<ErrorResponse> handleTooManyRequests(
+                        TooManyRequestsException ex,
+                        HttpServletRequest request) {
+                ErrorResponse error = new ErrorResponse(
+                                LocalDateTime.now(),
+                                HttpStatus.TOO_MANY_REQUESTS.value(),
+                                "Too Many Requests",
+                                ex.getMessage(),
+                                request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                                .body(error);
+        }
+
         @ExceptionHandler(FileStorageException.class)
         public ResponseEntity<ErrorResponse> handleFileStorageException(
                         FileStorageException ex,
@@ -82,6 +99,21 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
         }
 
+        // Thrown by method security; anonymous callers must (re)authenticate, others lack the role
+        @ExceptionHandler(AccessDeniedException.class)
+        public ResponseEntity<ErrorResponse> handleAccessDenied(
+                        AccessDeniedException ex,
+                        HttpServletRequest request) {
+                HttpStatus status = request.getUserPrincipal() == null ? HttpStatus.UNAUTHORIZED : HttpStatus.FORBIDDEN;
+                ErrorResponse error = new ErrorResponse(
+                                LocalDateTime.now(),
+                                status.value(),
+                                status.getReasonPhrase(),
+                                ex.getMessage(),
+                                request.getRequestURI());
+                return new ResponseEntity<>(error, status);
+        }
+
         @ExceptionHandler(UsernameNotFoundException.class)
         public ResponseEntity<ErrorResponse> handleUsernameNotFound(
                         UsernameNotFoundException ex,
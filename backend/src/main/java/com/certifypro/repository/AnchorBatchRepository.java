@@ -0,0 +1,11 @@
+package com.certifypro.repository;
+
+import com.certifypro.entity.AnchorBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface AnchorBatchRepository extends JpaRepository<AnchorBatch, UUID> {
+}
@@ -2,18 +2,30 @@ package com.certifypro.repository;
 
 import com.certifypro.entity.Certificate;
 import com.certifypro.entity.CertificateStatus;
+import com.certifypro.entity.ProfileVisibility;
 import com.certifypro.entity.User;
+import com.certifypro.repository.projection.CertificateListView;
+import com.certifypro.repository.projection.SkillNameView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CertificateRepository extends JpaRepository<Certificate, UUID> {
@@ -22,16 +34,92 @@ public interface CertificateRepository extends JpaRepository<Certificate, UUID>
 
         List<Certificate> findByIssuer(User issuer);
 
+        // List paths read these columns instead of entities, so holder, issuer and skills are
+        // not loaded row by row
+        String LIST_VIEW = "SELECT c.id AS id, c.serialNumber AS serialNumber, c.name AS name,"
+                        + " c.description AS description, c.issuedDate AS issuedDate, c.expiryDate AS expiryDate,"
+                        + " c.status AS status, c.blockchainHash AS blockchainHash, c.anchorBatchId AS anchorBatchId,"
+                        + " c.verificationId AS verificationId, c.views AS views, c.createdAt AS createdAt,"
+                        + " h.username AS holderUsername, i.username AS issuerUsername,"
+                        + " i.organization AS issuerOrganization"
+                        + " FROM Certificate c JOIN c.holder h JOIN c.issuer i ";
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+        @Query(LIST_VIEW + "WHERE c.issuer = :issuer ORDER BY c.createdAt")
+        Stream<CertificateListView> streamByIssuer(@Param("issuer") User issuer);
+
+        @Query(LIST_VIEW + "WHERE c.holder = :holder ORDER BY c.createdAt DESC, c.id DESC")
+        List<CertificateListView> findViewsByHolder(@Param("holder") User holder);
+
+        @Query(LIST_VIEW + "WHERE c.issuer = :issuer ORDER BY c.createdAt DESC, c.id DESC")
+        List<CertificateListView> findViewsByIssuer(@Param("issuer") User issuer);
+
+        @Query("SELECT c.id AS ownerId, s.name AS name FROM Certificate c JOIN c.skills s WHERE c.id IN :ids")
+        List<SkillNameView> findSkillNames(@Param("ids") Collection<UUID> ids);
+
         Page<Certificate> findByHolder(User holder, Pageable pageable);
 
+        // Keyset pages, newest first; callers pass an unsorted Pageable of limit + 1 so
+        // no count query is issued
+        @Query(LIST_VIEW + "WHERE c.holder = :holder ORDER BY c.createdAt DESC, c.id DESC")
+        List<CertificateListView> findPageByHolder(@Param("holder") User holder, Pageable pageable);
+
+        @Query(LIST_VIEW + "WHERE c.holder = :holder AND (c.createdAt < :createdAt"
+                        + " OR (c.createdAt = :createdAt AND c.id < :id)) ORDER BY c.createdAt DESC, c.id DESC")
+        List<CertificateListView> findPageByHolderAfter(@Param("holder") User holder,
+                        @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
+        @Query(LIST_VIEW + "WHERE c.issuer = :issuer ORDER BY c.createdAt DESC, c.id DESC")
+        List<CertificateListView> findPageByIssuer(@Param("issuer") User issuer, Pageable pageable);
+
+        @Query(LIST_VIEW + "WHERE c.issuer = :issuer AND (c.createdAt < :createdAt"
+                        + " OR (c.createdAt = :createdAt AND c.id < :id)) ORDER BY c.createdAt DESC, c.id DESC")
+        List<CertificateListView> findPageByIssuerAfter(@Param("issuer") User issuer,
+                        @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
         Page<Certificate> findByIssuer(User issuer, Pageable pageable);
 
         List<Certificate> findByStatus(CertificateStatus status);
 
+        @Query("SELECT c.serialNumber FROM Certificate c WHERE c.status = :status")
+        List<Long> findSerialNumbersByStatus(@Param("status") CertificateStatus status);
+
+        @Query("SELECT c.serialNumber FROM Certificate c WHERE c.id = :id")
+        Long findSerialNumberById(@Param("id") UUID id);
+
         Optional<Certificate> findByBlockchainHash(String blockchainHash);
 
         Optional<Certificate> findByVerificationId(String verificationId);
 
+        boolean existsByVerificationId(String verificationId);
+
+        // Anchoring queue, oldest first
+        @Query("SELECT c FROM Certificate c WHERE c.anchorBatchId IS NULL ORDER BY c.createdAt, c.id")
+        List<Certificate> findUnanchored(Pageable pageable);
+
+        @Query("SELECT c FROM Certificate c WHERE c.anchorBatchId IS NULL AND (c.createdAt > :createdAt"
+                        + " OR (c.createdAt = :createdAt AND c.id > :id)) ORDER BY c.createdAt, c.id")
+        List<Certificate> findUnanchoredAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                        Pageable pageable);
+
+        @Query("SELECT c.verificationId FROM Certificate c WHERE c.verificationId IN :verificationIds")
+        List<String> findExistingVerificationIds(@Param("verificationIds") Collection<String> verificationIds);
+
+        @EntityGraph(attributePaths = { "holder", "issuer", "skills" })
+        Optional<Certificate> findWithDetailsByVerificationId(String verificationId);
+
+        @Modifying
+        @Transactional
+        @Query("UPDATE Certificate c SET c.status = :status WHERE c.id = :id")
+        int updateStatus(@Param("id") UUID id, @Param("status") CertificateStatus status);
+
+        // Succeeds for exactly one caller, so one verification across all instances counts as the first
+        @Modifying
+        @Transactional
+        @Query("UPDATE Certificate c SET c.firstVerifiedAt = :verifiedAt"
+                        + " WHERE c.id = :id AND c.firstVerifiedAt IS NULL")
+        int markFirstVerified(@Param("id") UUID id, @Param("verifiedAt") LocalDateTime verifiedAt);
+
         @Query("SELECT c FROM Certificate c WHERE c.holder = :holder AND c.status = :status")
         List<Certificate> findByHolderAndStatus(@Param("holder") User holder,
                         @Param("status") CertificateStatus status);
@@ -40,15 +128,23 @@ public interface CertificateRepository extends JpaRepository<Certificate, UUID>
         List<Certificate> findByIssuerAndStatus(@Param("issuer") User issuer,
                         @Param("status") CertificateStatus status);
 
-        @Query("SELECT c FROM Certificate c JOIN c.skills s WHERE s.name IN :skillNames")
-        List<Certificate> findBySkillsIn(@Param("skillNames") List<String> skillNames);
-
         @Query("SELECT c FROM Certificate c WHERE c.expiryDate BETWEEN :startDate AND :endDate")
         List<Certificate> findExpiringBetween(@Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
-        @Query("SELECT c FROM Certificate c WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :query, '%'))")
-        List<Certificate> searchByName(@Param("query") String query);
+        @Query(LIST_VIEW + "WHERE c.id IN :ids")
+        List<CertificateListView> findViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+        // Search fallback for databases without full-text support; the pattern is lower-cased
+        // and its wildcards escaped with a backslash
+        @Query("SELECT c.id FROM Certificate c JOIN c.holder h"
+                        + " WHERE h.enabled = true"
+                        + " AND (h.profileVisibility IS NULL OR h.profileVisibility <> :hidden)"
+                        + " AND (LOWER(c.name) LIKE :pattern ESCAPE '\\'"
+                        + " OR LOWER(c.description) LIKE :pattern ESCAPE '\\')"
+                        + " ORDER BY c.createdAt DESC, c.id DESC")
+        List<UUID> searchIds(@Param("pattern") String pattern,
+                        @Param("hidden") ProfileVisibility hidden, Pageable pageable);
 
         @Query("SELECT COUNT(c) FROM Certificate c WHERE c.issuer = :issuer")
         Long countByIssuer(@Param("issuer") User issuer);
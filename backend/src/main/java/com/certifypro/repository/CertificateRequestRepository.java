@@ -3,9 +3,16 @@ package com.certifypro.repository;
 import com.certifypro.entity.CertificateRequest;
 import com.certifypro.entity.CertificateRequest.RequestStatus;
 import com.certifypro.entity.User;
+import com.certifypro.repository.projection.CertificateRequestListView;
+import com.certifypro.repository.projection.SkillNameView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +28,50 @@ public interface CertificateRequestRepository extends JpaRepository<CertificateR
 
     List<CertificateRequest> findByIssuerOrderByRequestedAtDesc(User issuer);
 
+    // List paths read these columns instead of entities, so requester, issuer and skills
+    // are not loaded row by row
+    String LIST_VIEW = "SELECT r.id AS id, q.username AS requesterUsername, q.email AS requesterEmail,"
+            + " i.username AS issuerUsername, r.requestMessage AS requestMessage, r.status AS status,"
+            + " r.requestedAt AS requestedAt, r.respondedAt AS respondedAt, r.rejectionReason AS rejectionReason,"
+            + " r.paymentAmount AS paymentAmount, r.isPaid AS isPaid,"
+            + " r.paymentTransactionId AS paymentTransactionId, r.paidAt AS paidAt"
+            + " FROM CertificateRequest r JOIN r.requester q JOIN r.issuer i ";
+
+    @Query(LIST_VIEW + "WHERE r.requester = :requester ORDER BY r.requestedAt DESC, r.id DESC")
+    List<CertificateRequestListView> findViewsByRequester(@Param("requester") User requester);
+
+    @Query(LIST_VIEW + "WHERE r.issuer = :issuer ORDER BY r.requestedAt DESC, r.id DESC")
+    List<CertificateRequestListView> findViewsByIssuer(@Param("issuer") User issuer);
+
+    @Query(LIST_VIEW + "WHERE r.issuer = :issuer AND r.status = :status ORDER BY r.requestedAt DESC, r.id DESC")
+    List<CertificateRequestListView> findViewsByIssuerAndStatus(@Param("issuer") User issuer,
+            @Param("status") RequestStatus status);
+
+    @Query("SELECT r.id AS ownerId, s.name AS name FROM CertificateRequest r JOIN r.skills s WHERE r.id IN :ids")
+    List<SkillNameView> findSkillNames(@Param("ids") Collection<UUID> ids);
+
+    // Keyset pages, newest first; callers pass an unsorted Pageable of limit + 1 so no
+    // count query is issued
+    @Query(LIST_VIEW + "WHERE r.issuer = :issuer ORDER BY r.requestedAt DESC, r.id DESC")
+    List<CertificateRequestListView> findPageByIssuer(@Param("issuer") User issuer, Pageable pageable);
+
+    @Query(LIST_VIEW + "WHERE r.issuer = :issuer AND (r.requestedAt < :requestedAt"
+            + " OR (r.requestedAt = :requestedAt AND r.id < :id)) ORDER BY r.requestedAt DESC, r.id DESC")
+    List<CertificateRequestListView> findPageByIssuerAfter(@Param("issuer") User issuer,
+            @Param("requestedAt") LocalDateTime requestedAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query(LIST_VIEW + "WHERE r.issuer = :issuer AND r.status = :status"
+            + " ORDER BY r.requestedAt DESC, r.id DESC")
+    List<CertificateRequestListView> findPageByIssuerAndStatus(@Param("issuer") User issuer,
+            @Param("status") RequestStatus status, Pageable pageable);
+
+    @Query(LIST_VIEW + "WHERE r.issuer = :issuer AND r.status = :status"
+            + " AND (r.requestedAt < :requestedAt OR (r.requestedAt = :requestedAt AND r.id < :id))"
+            + " ORDER BY r.requestedAt DESC, r.id DESC")
+    List<CertificateRequestListView> findPageByIssuerAndStatusAfter(@Param("issuer") User issuer,
+            @Param("status") RequestStatus status, @Param("requestedAt") LocalDateTime requestedAt,
+            @Param("id") UUID id, Pageable pageable);
+
     Optional<CertificateRequest> findByIdAndIssuer(UUID id, User issuer);
 
     Long countByIssuerAndStatus(User issuer, RequestStatus status);
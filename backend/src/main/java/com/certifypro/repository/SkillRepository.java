@@ -4,6 +4,8 @@ import com.certifypro.entity.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,5 +13,7 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
 
     Optional<Skill> findByName(String name);
 
+    List<Skill> findByNameIn(Collection<String> names);
+
     boolean existsByName(String name);
 }
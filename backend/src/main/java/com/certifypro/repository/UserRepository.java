@@ -1,12 +1,21 @@
 package com.certifypro.repository;
 
+import com.certifypro.entity.ProfileVisibility;
 import com.certifypro.entity.User;
 import com.certifypro.entity.UserRole;
+import com.certifypro.repository.projection.AuthUserView;
+import com.certifypro.repository.projection.ProfileListView;
+import com.certifypro.repository.projection.SkillNameView;
+import com.certifypro.repository.projection.UserEmailView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +27,25 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByUsername(String username);
 
+    @EntityGraph(attributePaths = "skills")
+    Optional<User> findWithSkillsByEmail(String email);
+
+    @EntityGraph(attributePaths = "skills")
+    Optional<User> findWithSkillsById(UUID id);
+
+    Optional<AuthUserView> findAuthViewByEmail(String email);
+
+    Optional<AuthUserView> findAuthViewByUsername(String username);
+
+    @Query("SELECT u.enabled FROM User u WHERE u.id = :id")
+    Optional<Boolean> findEnabledById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") UUID id, @Param("password") String password);
+
+    List<UserEmailView> findByEmailIn(Collection<String> emails);
+
     boolean existsByEmail(String email);
 
     boolean existsByUsername(String username);
@@ -26,10 +54,17 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Long countByRole(UserRole role);
 
-    @Query("SELECT u FROM User u JOIN u.skills s WHERE s.name IN :skillNames")
-    List<User> findBySkillsIn(@Param("skillNames") List<String> skillNames);
+    @Query("SELECT u.id AS ownerId, s.name AS name FROM User u JOIN u.skills s WHERE u.id IN :ids")
+    List<SkillNameView> findSkillNames(@Param("ids") Collection<UUID> ids);
 
-    @Query("SELECT u FROM User u WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :query, '%')) " +
-            "OR LOWER(u.bio) LIKE LOWER(CONCAT('%', :query, '%'))")
-    List<User> searchUsers(@Param("query") String query);
+    // Search fallback for databases without full-text support; the pattern is lower-cased
+    // and its wildcards escaped with a backslash
+    @Query("SELECT u.id AS id, u.username AS username, u.avatar AS avatar, u.bio AS bio," +
+            " u.organization AS organization, u.location AS location FROM User u" +
+            " WHERE u.role = :role AND u.enabled = true" +
+            " AND (u.profileVisibility IS NULL OR u.profileVisibility <> :hidden)" +
+            " AND (LOWER(u.username) LIKE :pattern ESCAPE '\\' OR LOWER(u.organization) LIKE :pattern ESCAPE '\\'" +
+            " OR LOWER(u.bio) LIKE :pattern ESCAPE '\\') ORDER BY u.username")
+    List<ProfileListView> searchProfiles(@Param("pattern") String pattern, @Param("role") UserRole role,
+            @Param("hidden") ProfileVisibility hidden, Pageable pageable);
 }
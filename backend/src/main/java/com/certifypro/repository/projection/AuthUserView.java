@@ -0,0 +1,24 @@
+package com.certifypro.repository.projection;
+
+import com.certifypro.entity.UserRole;
+
+import java.util.UUID;
+
+/**
+ * The columns password authentication needs, read without the user's profile or
+ * collections.
+ */
+public interface AuthUserView {
+
+    UUID getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getPassword();
+
+    UserRole getRole();
+
+    Boolean getEnabled();
+}
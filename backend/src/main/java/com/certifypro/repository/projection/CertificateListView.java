@@ -0,0 +1,44 @@
+package com.certifypro.repository.projection;
+
+import com.certifypro.entity.CertificateStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns a certificate list entry needs, read together with the holder's and
+ * issuer's names in one joined query. Skills are loaded separately for the whole page.
+ */
+public interface CertificateListView {
+
+    UUID getId();
+
+    Long getSerialNumber();
+
+    String getName();
+
+    String getDescription();
+
+    LocalDate getIssuedDate();
+
+    LocalDate getExpiryDate();
+
+    CertificateStatus getStatus();
+
+    String getBlockchainHash();
+
+    UUID getAnchorBatchId();
+
+    String getVerificationId();
+
+    Integer getViews();
+
+    LocalDateTime getCreatedAt();
+
+    String getHolderUsername();
+
+    String getIssuerUsername();
+
+    String getIssuerOrganization();
+}
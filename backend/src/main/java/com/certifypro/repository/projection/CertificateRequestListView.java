@@ -0,0 +1,39 @@
+package com.certifypro.repository.projection;
+
+import com.certifypro.entity.CertificateRequest.RequestStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns a certificate request list entry needs, read together with the requester
+ * and issuer in one joined query. Skills are loaded separately for the whole page.
+ */
+public interface CertificateRequestListView {
+
+    UUID getId();
+
+    String getRequesterUsername();
+
+    String getRequesterEmail();
+
+    String getIssuerUsername();
+
+    String getRequestMessage();
+
+    RequestStatus getStatus();
+
+    LocalDateTime getRequestedAt();
+
+    LocalDateTime getRespondedAt();
+
+    String getRejectionReason();
+
+    Double getPaymentAmount();
+
+    Boolean getIsPaid();
+
+    String getPaymentTransactionId();
+
+    LocalDateTime getPaidAt();
+}
@@ -0,0 +1,21 @@
+package com.certifypro.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * The public columns of a profile search result.
+ */
+public interface ProfileListView {
+
+    UUID getId();
+
+    String getUsername();
+
+    String getAvatar();
+
+    String getBio();
+
+    String getOrganization();
+
+    String getLocation();
+}
@@ -0,0 +1,42 @@
+package com.certifypro.repository.projection;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * One skill name of a certificate, certificate request or user, used to load the skills
+ * of a whole page of list entries in a single query.
+ */
+public interface SkillNameView {
+
+    // Keeps IN lists well under the database's bind parameter limit
+    int MAX_OWNERS_PER_QUERY = 1000;
+
+    UUID getOwnerId();
+
+    String getName();
+
+    /**
+     * Load the skill names of every owner, issuing one query per
+     * {@link #MAX_OWNERS_PER_QUERY} owners
+     *
+     * @param ownerIds Certificate, request or user IDs
+     * @param query    Repository query returning the skill names of the given owners
+     * @return Skill names by owner; owners without skills are absent
+     */
+    static Map<UUID, Set<String>> load(List<UUID> ownerIds, Function<List<UUID>, List<SkillNameView>> query) {
+        Map<UUID, Set<String>> skills = new HashMap<>();
+        for (int from = 0; from < ownerIds.size(); from += MAX_OWNERS_PER_QUERY) {
+            List<UUID> chunk = ownerIds.subList(from, Math.min(from + MAX_OWNERS_PER_QUERY, ownerIds.size()));
+            for (SkillNameView skill : query.apply(chunk)) {
+                skills.computeIfAbsent(skill.getOwnerId(), id -> new HashSet<>()).add(skill.getName());
+            }
+        }
+        return skills;
+    }
+}
@@ -0,0 +1,14 @@
+package com.certifypro.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Minimal user projection used to resolve recipients by email without loading
+ * the full entity graph.
+ */
+public interface UserEmailView {
+
+    UUID getId();
+
+    String getEmail();
+}
@@ -0,0 +1,76 @@
+package com.certifypro.security;
+
+import com.certifypro.entity.UserRole;
+import com.certifypro.repository.projection.AuthUserView;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * Lightweight principal: built from token claims alone for JWT-authenticated requests,
+ * or from an {@link AuthUserView} for password login. Handlers that need the full
+ * {@link com.certifypro.entity.User} load it by username or ID.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    private final UUID id;
+    private final String username;
+    private final UserRole role;
+    private final boolean enabled;
+    private String password;
+
+    public AuthenticatedUser(UUID id, String username, UserRole role) {
+        // Enabled state is checked against UserStatusCache when the request is authenticated
+        this(id, username, role, true, null);
+    }
+
+    private AuthenticatedUser(UUID id, String username, UserRole role, boolean enabled, String password) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.enabled = enabled;
+        this.password = password;
+    }
+
+    public static AuthenticatedUser from(AuthUserView user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole(),
+                Boolean.TRUE.equals(user.getEnabled()), user.getPassword());
+    }
+
+    public AuthenticatedUser withPassword(String newPassword) {
+        return new AuthenticatedUser(id, username, role, enabled, newPassword);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    // Drop the hash once authentication has finished with it
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.certifypro.security;
+
+import com.certifypro.dto.response.CertificateResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Signs and checks certificate tokens: compact Ed25519 JWTs carrying a certificate's
+ * immutable fields, so anyone holding the public key can check authenticity without
+ * calling back. Profile fields users can edit, such as the issuer's organization, are
+ * left out: a token signed before the edit would keep vouching for the old value. With
+ * only fixed fields and deterministic Ed25519 signatures, a certificate always gets the
+ * same token under the same key.
+ */
+@Component
+@Slf4j
+public class CertificateTokenProvider {
+
+    public static final String ALGORITHM = "EdDSA";
+    // Bumped whenever the claim set changes, so cached QR codes embedding old tokens are refetched
+    public static final int TOKEN_VERSION = 3;
+
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+    private final JwtParser parser;
+
+    @Getter
+    private final String keyId;
+
+    public CertificateTokenProvider(@Value("${app.certificate-token.private-key:}") String privateKey,
+            @Value("${app.certificate-token.public-key:}") String publicKey, Environment environment)
+            throws GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("Ed25519");
+        if (privateKey.isBlank() || publicKey.isBlank()) {
+            // Tokens signed with a throwaway key stop verifying on restart, so only local profiles may use one
+            if (!environment.acceptsProfiles(Profiles.of("dev", "test"))) {
+                throw new IllegalStateException("app.certificate-token.private-key and public-key must be set "
+                        + "outside the dev and test profiles");
+            }
+            log.warn("No certificate token key pair configured; generated an ephemeral one. Tokens will not "
+                    + "verify after a restart. Set app.certificate-token.private-key and public-key.");
+            KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            this.privateKey = keyPair.getPrivate();
+            this.publicKey = keyPair.getPublic();
+        } else {
+            this.privateKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey.trim())));
+            this.publicKey = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey.trim())));
+        }
+        byte[] fingerprint = MessageDigest.getInstance("SHA-256").digest(this.publicKey.getEncoded());
+        this.keyId = HexFormat.of().formatHex(fingerprint, 0, 8);
+        this.parser = Jwts.parser().verifyWith(this.publicKey).build();
+    }
+
+    /**
+     * Sign a token for a certificate
+     *
+     * @param certificate The certificate's response view
+     * @return Compact JWS
+     */
+    public String generateToken(CertificateResponse certificate) {
+        var builder = Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject(certificate.getVerificationId())
+                .claim("cid", certificate.getId().toString())
+                .claim("sn", certificate.getSerialNumber())
+                .claim("name", certificate.getName())
+                .claim("holder", certificate.getHolderUsername())
+                .claim("issuer", certificate.getIssuerName())
+                .claim("issued", certificate.getIssuedDate().toString());
+        if (certificate.getExpiryDate() != null) {
+            builder.expiration(Date.from(certificate.getExpiryDate().plusDays(1).atStartOfDay()
+                    .toInstant(ZoneOffset.UTC)));
+        }
+        return builder.signWith(privateKey, Jwts.SIG.EdDSA).compact();
+    }
+
+    /**
+     * Check a token's signature and read its claims. An expired certificate still has a
+     * valid signature, so its claims are returned rather than rejected.
+     *
+     * @param token Compact JWS
+     * @return The verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed or not signed by our key
+     */
+    public Claims parseToken(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException ex) {
+            return ex.getClaims();
+        }
+    }
+
+    /**
+     * Public key for external verifiers
+     *
+     * @return Base64 X.509 SubjectPublicKeyInfo encoding
+     */
+    public String getEncodedPublicKey() {
+        return Base64.getEncoder().encodeToString(publicKey.getEncoded());
+    }
+}
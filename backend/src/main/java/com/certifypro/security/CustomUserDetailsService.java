@@ -1,9 +1,10 @@
 package com.certifypro.security;
 
-import com.certifypro.entity.User;
 import com.certifypro.repository.UserRepository;
+import com.certifypro.repository.projection.AuthUserView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,19 +12,33 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
+    /**
+     * Load only the columns authentication needs; the profile and skills stay unloaded
+     */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
         // Try to find by email first (for login), then by username (for token auth)
-        User user = userRepository.findByEmail(usernameOrEmail)
-                .or(() -> userRepository.findByUsername(usernameOrEmail))
+        AuthUserView user = userRepository.findAuthViewByEmail(usernameOrEmail)
+                .or(() -> userRepository.findAuthViewByUsername(usernameOrEmail))
                 .orElseThrow(() -> new UsernameNotFoundException(
                         "User not found with email or username: " + usernameOrEmail));
 
-        return user;
+        return AuthenticatedUser.from(user);
+    }
+
+    /**
+     * Store a password re-encoded on login because its hash used an outdated algorithm or cost
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        AuthenticatedUser user = (AuthenticatedUser) userDetails;
+        userRepository.updatePassword(user.getId(), newPassword);
+        return user.withPassword(newPassword);
     }
 }
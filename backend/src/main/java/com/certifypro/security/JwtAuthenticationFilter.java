@@ -1,11 +1,13 @@
 package com.certifypro.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -14,6 +16,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +24,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -29,10 +34,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Optional<Claims> claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : Optional.empty();
+            UserDetails userDetails = claims.map(this::resolvePrincipal).orElse(null);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -48,6 +52,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Principal from the token's claims, checked against the logout denylist and the
+     * cached account status.
+     * Tokens issued before user ID and role were embedded fall back to loading the user.
+     *
+     * @return The principal, or null if the token was revoked or the account is disabled
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        if (tokenDenylist.isDenied(claims.getId())) {
+            return null;
+        }
+        Optional<AuthenticatedUser> principal = tokenProvider.getPrincipal(claims);
+        if (principal.isPresent()) {
+            return userStatusCache.isEnabled(principal.get().getId()) ? principal.get() : null;
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        if (!userDetails.isEnabled()) {
+            return null;
+        }
+        // Loaded for password login, so it carries the hash, which a request never needs
+        if (userDetails instanceof CredentialsContainer credentials) {
+            credentials.eraseCredentials();
+        }
+        return userDetails;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,72 +1,117 @@
 package com.certifypro.security;
 
+import com.certifypro.entity.User;
+import com.certifypro.entity.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Issues and checks short-lived access JWTs. The signing key and parser are built once and
+ * shared, and each token is verified and read in a single parse.
+ */
 @Component
+@Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.expiration}") long jwtExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
+    }
+
+    /**
+     * Access token lifetime in seconds
+     */
+    public long getExpirationSeconds() {
+        return TimeUnit.MILLISECONDS.toSeconds(jwtExpiration);
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userDetails.getUsername());
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        return generateToken(principal.getId(), principal.getUsername(), principal.getRole());
     }
 
-    public String generateTokenFromUsername(String username) {
+    public String generateToken(User user) {
+        return generateToken(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    private String generateToken(UUID userId, String username, UserRole role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
+                .claim(CLAIM_USER_ID, userId.toString())
+                .claim(CLAIM_ROLE, role.name())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * Validate a token and read its claims in one pass
+     *
+     * @param token Compact JWS from the Authorization header
+     * @return The verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
         } catch (MalformedJwtException ex) {
-            System.err.println("Invalid JWT token");
+            log.debug("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
-            System.err.println("Expired JWT token");
+            log.debug("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
-            System.err.println("Unsupported JWT token");
+            log.debug("Unsupported JWT token");
+        } catch (JwtException ex) {
+            log.debug("JWT signature check failed");
         } catch (IllegalArgumentException ex) {
-            System.err.println("JWT claims string is empty");
+            log.debug("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Build the request principal from a token's claims
+     *
+     * @param claims Verified claims
+     * @return The principal, or empty for tokens issued before user ID and role were embedded
+     */
+    public Optional<AuthenticatedUser> getPrincipal(Claims claims) {
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new AuthenticatedUser(UUID.fromString(userId), claims.getSubject(), UserRole.valueOf(role)));
+    }
+
+    public String getUsernameFromToken(String token) {
+        return parseClaims(token).map(Claims::getSubject).orElse(null);
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
     }
 }
@@ -0,0 +1,202 @@
+package com.certifypro.security;
+
+import com.certifypro.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throttles login attempts before any password is checked, so rejected attempts cost no
+ * hashing. Each key has a token bucket of {@code capacity} attempts that refills
+ * completely over {@code refill-period}. Every attempt is charged to the client IP.
+ * Attempts on an account are charged to that account from that IP, and to a looser cap
+ * for the account as a whole; both charges are refunded when the password turns out to
+ * be right. Only failures count against an account, and failures from elsewhere lock a
+ * user out only once they reach the account-wide cap.
+ *
+ * Buckets live in bounded caches and are evicted after a full refill period without
+ * use, at which point they would be full again anyway.
+ */
+@Component
+public class LoginRateLimiter {
+
+    public static final String METRIC_NAME = "auth.login.rate_limit";
+
+    private final Limit perIp;
+    private final Limit perAccountIp;
+    private final Limit perAccount;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${app.login-rate-limit.per-ip.capacity:20}") int ipCapacity,
+            @Value("${app.login-rate-limit.per-ip.refill-period:1m}") Duration ipRefillPeriod,
+            @Value("${app.login-rate-limit.per-account-ip.capacity:5}") int accountIpCapacity,
+            @Value("${app.login-rate-limit.per-account-ip.refill-period:5m}") Duration accountIpRefillPeriod,
+            @Value("${app.login-rate-limit.per-account.capacity:50}") int accountCapacity,
+            @Value("${app.login-rate-limit.per-account.refill-period:5m}") Duration accountRefillPeriod,
+            @Value("${app.login-rate-limit.max-tracked-keys:100000}") long maxTrackedKeys,
+            MeterRegistry meterRegistry) {
+        this(ipCapacity, ipRefillPeriod, accountIpCapacity, accountIpRefillPeriod, accountCapacity,
+                accountRefillPeriod, maxTrackedKeys, meterRegistry, Ticker.systemTicker());
+    }
+
+    LoginRateLimiter(int ipCapacity, Duration ipRefillPeriod, int accountIpCapacity, Duration accountIpRefillPeriod,
+            int accountCapacity, Duration accountRefillPeriod, long maxTrackedKeys, MeterRegistry meterRegistry,
+            Ticker ticker) {
+        this.perIp = new Limit("ip", ipCapacity, ipRefillPeriod, maxTrackedKeys, meterRegistry, ticker);
+        this.perAccountIp = new Limit("account_ip", accountIpCapacity, accountIpRefillPeriod, maxTrackedKeys,
+                meterRegistry, ticker);
+        this.perAccount = new Limit("account", accountCapacity, accountRefillPeriod, maxTrackedKeys,
+                meterRegistry, ticker);
+    }
+
+    /**
+     * Take one attempt from the client's bucket and reserve one from the account's
+     *
+     * @param clientIp The caller's address
+     * @param email    The account being signed in to
+     * @throws TooManyRequestsException If any bucket is empty
+     */
+    public void acquire(String clientIp, String email) {
+        perIp.acquire(clientIp);
+        if (email == null) {
+            return;
+        }
+        String account = normalize(email);
+        perAccount.acquire(account);
+        try {
+            perAccountIp.acquire(accountIpKey(account, clientIp));
+        } catch (TooManyRequestsException e) {
+            perAccount.refund(account);
+            throw e;
+        }
+    }
+
+    /**
+     * Give back the account attempts reserved by {@link #acquire} once the password was right
+     *
+     * @param clientIp The caller's address
+     * @param email    The account signed in to
+     */
+    public void succeeded(String clientIp, String email) {
+        if (email == null) {
+            return;
+        }
+        String account = normalize(email);
+        perAccount.refund(account);
+        perAccountIp.refund(accountIpKey(account, clientIp));
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String accountIpKey(String account, String clientIp) {
+        return account + '|' + clientIp;
+    }
+
+    private static final class Limit {
+
+        private final Cache<String, TokenBucket> buckets;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Counter rejected;
+
+        private final Ticker ticker;
+
+        private Limit(String name, int capacity, Duration refillPeriod, long maxTrackedKeys,
+                MeterRegistry meterRegistry, Ticker ticker) {
+            this.ticker = ticker;
+            this.intervalNanos = refillPeriod.toNanos() / capacity;
+            this.burstNanos = intervalNanos * (capacity - 1);
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxTrackedKeys)
+                    .expireAfterAccess(refillPeriod)
+                    .ticker(ticker)
+                    .recordStats()
+                    .build();
+            this.rejected = Counter.builder(METRIC_NAME + ".rejected")
+                    .tag("limit", name)
+                    .description("Login attempts rejected before password verification")
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_NAME + ".capacity", () -> capacity)
+                    .tag("limit", name)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_NAME + ".refill_period", refillPeriod::toSeconds)
+                    .tag("limit", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            CaffeineCacheMetrics.monitor(meterRegistry, buckets, "login-rate-limit-" + name);
+        }
+
+        private void acquire(String key) {
+            long waitNanos = buckets.get(key, k -> new TokenBucket())
+                    .tryAcquire(ticker.read(), intervalNanos, burstNanos);
+            if (waitNanos > 0) {
+                rejected.increment();
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+                throw new TooManyRequestsException("Too many login attempts, please retry later", retryAfter);
+            }
+        }
+
+        private void refund(String key) {
+            TokenBucket bucket = buckets.getIfPresent(key);
+            if (bucket != null) {
+                bucket.refund(ticker.read(), intervalNanos);
+            }
+        }
+    }
+
+    /**
+     * Token bucket held as a single "theoretical arrival time" (the GCRA form), so taking
+     * a token is one compare-and-set with no lock. The bucket is full when the stored
+     * time is in the past and empty when it is {@code burst} ahead of now.
+     */
+    private static final class TokenBucket {
+
+        private final AtomicLong arrival = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * @return 0 if a token was taken, otherwise nanoseconds until one is available
+         */
+        private long tryAcquire(long now, long intervalNanos, long burstNanos) {
+            while (true) {
+                long current = arrival.get();
+                long start = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+                long wait = start - now - burstNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (arrival.compareAndSet(current, start + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Put back a token taken by {@link #tryAcquire}; a full bucket stays full
+         */
+        private void refund(long now, long intervalNanos) {
+            while (true) {
+                long current = arrival.get();
+                if (current == Long.MIN_VALUE || current - now <= 0) {
+                    return;
+                }
+                if (arrival.compareAndSet(current, current - intervalNanos)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.certifypro.security;
+
+import com.certifypro.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool for work dominated by password hashing (login, registration), so a
+ * burst of logins queues here instead of tying up request threads. When the pool and
+ * its queue are full new work is rejected with 429 rather than waiting.
+ *
+ * Per-operation timers ({@code auth.password.hashing}) give hashing throughput and
+ * latency per instance, for tuning the hash cost against capacity.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    public static final String METRIC_NAME = "auth.password.hashing";
+
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(@Value("${app.password-hashing.threads:0}") int threads,
+            @Value("${app.password-hashing.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder(METRIC_NAME + ".rejected")
+                .description("Hashing tasks rejected because the pool was saturated")
+                .register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+    }
+
+    /**
+     * Run hashing-bound work on the pool
+     *
+     * @param operation Metric tag naming the work, e.g. {@code login}
+     * @param task      The work to run
+     * @return The task's result, completed on a pool thread
+     * @throws TooManyRequestsException If the pool and its queue are full
+     */
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        Timer timer = Timer.builder(METRIC_NAME)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many concurrent sign-in requests, please retry shortly");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,176 @@
+package com.certifypro.security;
+
+import com.certifypro.entity.RefreshToken;
+import com.certifypro.exception.UnauthorizedException;
+import com.certifypro.repository.RefreshTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and rotates opaque refresh tokens. Recently issued tokens are held in a bounded
+ * cache by hash so a refresh usually needs no lookup query; the {@code refresh_tokens}
+ * table is the durable copy, serves tokens the cache does not hold (evicted, issued
+ * elsewhere or before a restart), and decides single use with a conditional update.
+ *
+ * Rotation consumes a token before issuing its successor, so a family has at most one
+ * live token. A family ID to token hash index, kept in step with the cache, lets a
+ * family be revoked without a scan.
+ */
+@Component
+@Slf4j
+public class RefreshTokenStore {
+
+    public static final String CACHE_NAME = "refresh-tokens";
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom random = new SecureRandom();
+    private final long refreshExpiration;
+    private final Cache<String, Entry> tokens;
+    private final Map<UUID, String> familyTokens = new ConcurrentHashMap<>();
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-expiration:1209600000}") long refreshExpiration,
+            @Value("${jwt.refresh-cache-max-size:100000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = refreshExpiration;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // Only tokens issued here are cached, so they all expire this long after the put
+                .expireAfterWrite(Duration.ofMillis(refreshExpiration))
+                // Runs inside the evicting operation, unlike a removal listener
+                .evictionListener((String hash, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        familyTokens.remove(entry.familyId(), hash);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, CACHE_NAME);
+    }
+
+    // What is known about an issued token besides its hash; familyId identifies the login
+    public record Entry(UUID id, UUID userId, UUID familyId, LocalDateTime expiresAt) {
+    }
+
+    /**
+     * Issue a refresh token
+     *
+     * @param userId   The user ID
+     * @param familyId Family to continue when rotating, or null to start one at login
+     * @return The opaque token to hand to the client
+     */
+    public String issue(UUID userId, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken record = refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .userId(userId)
+                .familyId(familyId != null ? familyId : UUID.randomUUID())
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)))
+                .build());
+        familyTokens.put(record.getFamilyId(), record.getTokenHash());
+        tokens.put(record.getTokenHash(), toEntry(record));
+        return token;
+    }
+
+    /**
+     * Consume a refresh token so that a successor can be issued. Reusing a consumed token
+     * is treated as theft and revokes every token in its family.
+     *
+     * @param token The opaque token from the client
+     * @return The consumed token's identity
+     * @throws UnauthorizedException If the token is unknown, expired, revoked or already used
+     */
+    public Entry consume(String token) {
+        String hash = hash(token);
+        Entry entry = tokens.asMap().remove(hash);
+        if (entry == null) {
+            entry = refreshTokenRepository.findByTokenHash(hash)
+                    .map(this::toEntry)
+                    .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+        }
+        familyTokens.remove(entry.familyId(), hash);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (entry.expiresAt().isBefore(now)) {
+            throw new UnauthorizedException("Refresh token expired");
+        }
+        if (refreshTokenRepository.markUsed(entry.id(), now) == 0) {
+            log.warn("Reuse of a rotated or revoked refresh token for user {}, revoking its family", entry.userId());
+            revokeFamily(entry.familyId());
+            throw new UnauthorizedException("Refresh token is no longer valid");
+        }
+        return entry;
+    }
+
+    /**
+     * Revoke a token and every token rotated from the same login
+     *
+     * @param token The opaque token from the client
+     */
+    public void revoke(String token) {
+        String hash = hash(token);
+        Entry entry = tokens.getIfPresent(hash);
+        if (entry == null) {
+            entry = refreshTokenRepository.findByTokenHash(hash).map(this::toEntry).orElse(null);
+        }
+        if (entry != null) {
+            revokeFamily(entry.familyId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.sweep-interval-ms:300000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        tokens.cleanUp();
+        int deleted = refreshTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.debug("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private void revokeFamily(UUID familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+        String hash = familyTokens.remove(familyId);
+        if (hash != null) {
+            tokens.invalidate(hash);
+        }
+    }
+
+    private Entry toEntry(RefreshToken record) {
+        return new Entry(record.getId(), record.getUserId(), record.getFamilyId(), record.getExpiresAt());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.certifypro.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IDs ({@code jti}) of access tokens revoked before they expire, e.g. at logout. Each
+ * entry is dropped once its token would have expired anyway, so the set only ever holds
+ * revocations from the last access-token lifetime.
+ */
+@Component
+public class TokenDenylist {
+
+    private final Map<String, Long> denied = new ConcurrentHashMap<>();
+
+    /**
+     * Reject a token until it expires
+     *
+     * @param tokenId    The token's {@code jti}
+     * @param expiration The token's expiry
+     */
+    public void deny(String tokenId, Date expiration) {
+        if (tokenId != null && expiration != null && expiration.getTime() > System.currentTimeMillis()) {
+            denied.put(tokenId, expiration.getTime());
+        }
+    }
+
+    public boolean isDenied(String tokenId) {
+        return tokenId != null && denied.containsKey(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.sweep-interval-ms:300000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        denied.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
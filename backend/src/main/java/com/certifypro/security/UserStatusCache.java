@@ -0,0 +1,47 @@
+package com.certifypro.security;
+
+import com.certifypro.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Short-lived cache of whether each account is enabled, so token authentication can
+ * reject disabled or deleted accounts without loading the user on every request. A
+ * change takes effect within the TTL.
+ */
+@Component
+public class UserStatusCache {
+
+    public static final String CACHE_NAME = "user-status";
+
+    private final LoadingCache<UUID, Boolean> cache;
+
+    public UserStatusCache(UserRepository userRepository,
+            @Value("${app.user-status-cache.max-size:10000}") long maxSize,
+            @Value("${app.user-status-cache.ttl:30s}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(id -> userRepository.findEnabledById(id).orElse(false));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Check whether an account exists and is enabled
+     *
+     * @param userId The user ID
+     * @return Whether the account may authenticate
+     */
+    public boolean isEnabled(UUID userId) {
+        return cache.get(userId);
+    }
+}
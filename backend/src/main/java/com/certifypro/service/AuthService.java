@@ -6,17 +6,21 @@ import com.certifypro.dto.response.AuthResponse;
 import com.certifypro.dto.response.UserResponse;
 import com.certifypro.entity.User;
 import com.certifypro.exception.BadRequestException;
+import com.certifypro.exception.UnauthorizedException;
 import com.certifypro.repository.UserRepository;
 import com.certifypro.security.JwtTokenProvider;
+import com.certifypro.security.RefreshTokenStore;
+import com.certifypro.security.TokenDenylist;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,8 +31,15 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
-
-    @Transactional
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenDenylist tokenDenylist;
+    private final StatsCounters statsCounters;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Register a new user. Runs on the password hashing pool: the hash is computed outside
+     * any transaction, so no pooled connection is held while it runs.
+     */
     public AuthResponse register(RegisterRequest request) {
         // Check if email already exists
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -40,69 +51,94 @@ public class AuthService {
             throw new BadRequestException("Username already taken");
         }
 
-        // Create new user
-        User user = User.builder()
-                .email(request.getEmail())
-                .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .role(request.getRole())
-                .bio("New CertifyPro user")
-                .enabled(true)
-                .build();
-
-        user = userRepository.save(user);
+        String passwordHash = passwordEncoder.encode(request.getPassword());
 
-        // Generate JWT token
-        String token = tokenProvider.generateTokenFromUsername(user.getUsername());
-
-        // Convert to response
-        UserResponse userResponse = convertToUserResponse(user);
-
-        return AuthResponse.builder()
-                .user(userResponse)
-                .token(token)
-                .build();
+        // Create new user
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .email(request.getEmail())
+                    .username(request.getUsername())
+                    .password(passwordHash)
+                    .role(request.getRole())
+                    .bio("New CertifyPro user")
+                    .enabled(true)
+                    .build());
+            statsCounters.userRegistered(user.getRole());
+            return buildAuthResponse(user, null);
+        });
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Log a user in. Runs on the password hashing pool without a surrounding transaction:
+     * the user lookup is read-only, and only an outdated hash being re-encoded and the new
+     * refresh token are written, each in a short transaction of its own. The caller gets
+     * tokens back, so nothing is put in the pool thread's security context.
+     */
     public AuthResponse login(LoginRequest request) {
-        // Authenticate user
-        Authentication authentication = authenticationManager.authenticate(
+        authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()));
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
         // Get user by email
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userRepository.findWithSkillsByEmail(request.getEmail())
                 .orElseThrow(() -> new BadRequestException("Invalid email or password"));
 
-        // Generate JWT token
-        String token = tokenProvider.generateTokenFromUsername(user.getUsername());
-
-        // Convert to response
-        UserResponse userResponse = convertToUserResponse(user);
-
-        return AuthResponse.builder()
-                .user(userResponse)
-                .token(token)
-                .build();
+        return buildAuthResponse(user, null);
     }
 
     @Transactional(readOnly = true)
     public UserResponse verifyToken(String token) {
-        if (!tokenProvider.validateToken(token)) {
-            throw new BadRequestException("Invalid token");
-        }
-
-        String username = tokenProvider.getUsernameFromToken(token);
+        String username = tokenProvider.parseClaims(token)
+                .filter(claims -> !tokenDenylist.isDenied(claims.getId()))
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new BadRequestException("Invalid token"));
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new BadRequestException("User not found"));
 
         return convertToUserResponse(user);
     }
 
+    /**
+     * Exchange a refresh token for a new access token and a rotated refresh token
+     *
+     * @param refreshToken The current refresh token, which is consumed
+     * @return New tokens for the token's user
+     */
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenStore.Entry entry = refreshTokenStore.consume(refreshToken);
+        User user = userRepository.findWithSkillsById(entry.userId())
+                .filter(User::isEnabled)
+                .orElseThrow(() -> new UnauthorizedException("Account is no longer active"));
+        return buildAuthResponse(user, entry.familyId());
+    }
+
+    /**
+     * Revoke the presented access token for the rest of its lifetime and, if given, the
+     * refresh token and every token rotated from the same login
+     *
+     * @param accessToken  The current access token, may be null
+     * @param refreshToken The current refresh token, may be null
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            tokenProvider.parseClaims(accessToken)
+                    .ifPresent(claims -> tokenDenylist.deny(claims.getId(), claims.getExpiration()));
+        }
+        if (refreshToken != null) {
+            refreshTokenStore.revoke(refreshToken);
+        }
+    }
+
+    private AuthResponse buildAuthResponse(User user, UUID refreshFamilyId) {
+        return AuthResponse.builder()
+                .user(convertToUserResponse(user))
+                .token(tokenProvider.generateToken(user))
+                .refreshToken(refreshTokenStore.issue(user.getId(), refreshFamilyId))
+                .expiresIn(tokenProvider.getExpirationSeconds())
+                .build();
+    }
+
     private UserResponse convertToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
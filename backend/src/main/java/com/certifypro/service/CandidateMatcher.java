@@ -0,0 +1,411 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.response.CandidateMatchResponse;
+import com.certifypro.exception.BadRequestException;
+import com.certifypro.util.KeysetCursor;
+import com.certifypro.util.Transactions;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * In-memory skill index of matchable candidates (enabled, non-private individuals) for
+ * employer skill queries. Each candidate holds two sorted arrays of skill IDs: skills
+ * claimed on the profile and skills verified by an active, unexpired certificate, so its
+ * footprint follows how many skills it has rather than how large skill IDs have grown. A
+ * query walks them alongside its own sorted skill IDs, scoring every candidate without
+ * touching the database, and keeps the top K, scanning shards in parallel on the common
+ * fork-join pool once the index is large.
+ *
+ * Loaded at startup and rebuilt periodically; issuance, revocation and profile edits
+ * update single candidates once their transaction commits.
+ */
+@Component
+@Slf4j
+public class CandidateMatcher {
+
+    // A claimed skill counts for this fraction of a verified one
+    static final double CLAIMED_WEIGHT = 0.5;
+    static final int MAX_QUERY_SKILLS = 50;
+    private static final int SHARD_COUNT = 64;
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private static final String MATCHABLE = " FROM users WHERE role = 'INDIVIDUAL' AND enabled = TRUE"
+            + " AND (profile_visibility IS NULL OR profile_visibility <> 'PRIVATE')";
+    private static final String VERIFIED = " FROM certificates c JOIN certificate_skills cs ON cs.certificate_id = c.id"
+            + " WHERE c.status = 'ACTIVE' AND (c.expiry_date IS NULL OR c.expiry_date >= CURRENT_DATE)";
+
+    private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score)
+            .thenComparingInt(Match::verified)
+            .thenComparing(match -> match.candidate().username(), Comparator.reverseOrder());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillDictionary skillDictionary;
+
+    private volatile Index index = new Index(Map.of(), Map.of());
+    // Updates made while a rebuild is reading the database, replayed onto the new index
+    private List<Consumer<Index>> replay;
+
+    public CandidateMatcher(JdbcTemplate jdbcTemplate, SkillDictionary skillDictionary) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.skillDictionary = skillDictionary;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.matching.refresh-interval-ms:300000}",
+            initialDelayString = "${app.matching.refresh-interval-ms:300000}")
+    public void refresh() {
+        synchronized (this) {
+            replay = new ArrayList<>();
+        }
+        Index fresh;
+        try {
+            fresh = load();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                replay = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            replay.forEach(update -> update.accept(fresh));
+            replay = null;
+            index = fresh;
+        }
+        log.debug("Candidate index loaded {} candidates", fresh.size());
+    }
+
+    /**
+     * Rank candidates by how well their skills cover the requested ones. Each requested
+     * skill weighs {@code 1 + ln(1 + endorsements)}; a candidate earns the full weight for
+     * a verified skill and {@link #CLAIMED_WEIGHT} of it for a claimed one. Scores are
+     * normalized to [0, 1]; ties go to more verified skills, then by username.
+     *
+     * @param skillNames Requested skills; names unknown to the skill dictionary match nobody
+     * @param limit      Number of candidates to return, clamped like list page sizes
+     * @return Best candidates first; candidates with no requested skill are omitted
+     */
+    public List<CandidateMatchResponse> match(Collection<String> skillNames, Integer limit) {
+        if (skillNames.isEmpty()) {
+            throw new BadRequestException("At least one skill is required");
+        }
+        if (skillNames.size() > MAX_QUERY_SKILLS) {
+            throw new BadRequestException("At most " + MAX_QUERY_SKILLS + " skills can be matched at once");
+        }
+        Map<String, Long> ids = skillDictionary.idsOf(new LinkedHashSet<>(skillNames));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Index current = index;
+        Query query = new Query(ids, current.endorsements());
+        int k = KeysetCursor.clampLimit(limit);
+
+        Stream<Map<UUID, Candidate>> shards = Arrays.stream(current.shards());
+        if (current.size() >= PARALLEL_THRESHOLD) {
+            shards = shards.parallel();
+        }
+        PriorityQueue<Match> top = shards
+                .map(shard -> topOf(shard.values(), query, k))
+                .reduce(new PriorityQueue<>(RANKING), (left, right) -> merge(left, right, k));
+
+        List<Match> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING.reversed());
+        return ranked.stream().map(match -> toResponse(match, query)).toList();
+    }
+
+    /**
+     * Number of candidates currently matchable
+     */
+    public int getCandidateCount() {
+        return index.size();
+    }
+
+    /**
+     * Record skills verified by newly issued certificates once the current transaction commits
+     *
+     * @param skillIdsByHolder Skill IDs of the issued certificates, by holder
+     */
+    public void skillsVerified(Map<UUID, ? extends Collection<Long>> skillIdsByHolder) {
+        Map<UUID, List<Long>> copy = new HashMap<>();
+        skillIdsByHolder.forEach((holder, skillIds) -> copy.put(holder, List.copyOf(skillIds)));
+        Transactions.afterCommit(() -> copy.forEach((holder, skillIds) -> {
+            if (index.get(holder) == null) {
+                // Not indexed yet, e.g. registered since the last rebuild
+                reload(holder);
+            } else {
+                apply(current -> current.update(holder, candidate -> candidate.withVerified(skillIds)));
+            }
+        }));
+    }
+
+    /**
+     * Re-read one candidate's profile and certificates once the current transaction
+     * commits, after a profile edit or a revocation
+     *
+     * @param userId The user's ID
+     */
+    public void candidateChanged(UUID userId) {
+        Transactions.afterCommit(() -> reload(userId));
+    }
+
+    private void reload(UUID userId) {
+        List<String> usernames = jdbcTemplate.queryForList("SELECT username" + MATCHABLE + " AND id = ?",
+                String.class, userId);
+        if (usernames.isEmpty()) {
+            apply(current -> current.remove(userId));
+            return;
+        }
+        long[] claimed = sortedIds(jdbcTemplate.queryForList(
+                "SELECT skill_id FROM user_skills WHERE user_id = ?", Long.class, userId));
+        long[] verified = sortedIds(jdbcTemplate.queryForList(
+                "SELECT DISTINCT cs.skill_id" + VERIFIED + " AND c.holder_id = ?", Long.class, userId));
+        Candidate candidate = new Candidate(userId, usernames.get(0), claimed, verified);
+        apply(current -> current.put(candidate));
+    }
+
+    private Index load() {
+        Map<UUID, String> usernames = new HashMap<>();
+        jdbcTemplate.query("SELECT id, username" + MATCHABLE, rs -> {
+            usernames.put(rs.getObject("id", UUID.class), rs.getString("username"));
+        });
+        Map<UUID, List<Long>> claimed = new HashMap<>();
+        Map<UUID, List<Long>> verified = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, skill_id FROM user_skills", rs -> {
+            collect(claimed, usernames, rs.getObject(1, UUID.class), rs.getLong(2));
+        });
+        jdbcTemplate.query("SELECT DISTINCT c.holder_id, cs.skill_id" + VERIFIED, rs -> {
+            collect(verified, usernames, rs.getObject(1, UUID.class), rs.getLong(2));
+        });
+
+        Map<Long, Integer> endorsements = new HashMap<>();
+        jdbcTemplate.query("SELECT id, endorsements FROM skills WHERE endorsements > 0", rs -> {
+            endorsements.put(rs.getLong("id"), rs.getInt("endorsements"));
+        });
+
+        Map<UUID, Candidate> candidates = new HashMap<>();
+        usernames.forEach((id, username) -> candidates.put(id, new Candidate(id, username,
+                sortedIds(claimed.getOrDefault(id, List.of())), sortedIds(verified.getOrDefault(id, List.of())))));
+        return new Index(candidates, endorsements);
+    }
+
+    private static void collect(Map<UUID, List<Long>> skills, Map<UUID, String> candidates, UUID userId,
+            long skillId) {
+        if (candidates.containsKey(userId)) {
+            skills.computeIfAbsent(userId, id -> new ArrayList<>()).add(skillId);
+        }
+    }
+
+    private static PriorityQueue<Match> topOf(Collection<Candidate> candidates, Query query, int k) {
+        // Worst match at the head, so it is the one dropped when the heap overflows
+        PriorityQueue<Match> top = new PriorityQueue<>(RANKING);
+        for (Candidate candidate : candidates) {
+            Match match = query.score(candidate);
+            if (match != null) {
+                top.add(match);
+                if (top.size() > k) {
+                    top.poll();
+                }
+            }
+        }
+        return top;
+    }
+
+    private static PriorityQueue<Match> merge(PriorityQueue<Match> left, PriorityQueue<Match> right, int k) {
+        PriorityQueue<Match> merged = new PriorityQueue<>(RANKING);
+        merged.addAll(left);
+        for (Match match : right) {
+            merged.add(match);
+            if (merged.size() > k) {
+                merged.poll();
+            }
+        }
+        while (merged.size() > k) {
+            merged.poll();
+        }
+        return merged;
+    }
+
+    private static CandidateMatchResponse toResponse(Match match, Query query) {
+        Set<String> verified = new LinkedHashSet<>();
+        Set<String> claimed = new LinkedHashSet<>();
+        for (int i = 0; i < query.skillIds.length; i++) {
+            if (has(match.candidate().verified(), query.skillIds[i])) {
+                verified.add(query.names[i]);
+            } else if (has(match.candidate().claimed(), query.skillIds[i])) {
+                claimed.add(query.names[i]);
+            }
+        }
+        return CandidateMatchResponse.builder()
+                .id(match.candidate().id())
+                .username(match.candidate().username())
+                .score(match.score())
+                .verifiedSkills(verified)
+                .claimedSkills(claimed)
+                .build();
+    }
+
+    private synchronized void apply(Consumer<Index> update) {
+        update.accept(index);
+        if (replay != null) {
+            replay.add(update);
+        }
+    }
+
+    private static long[] sortedIds(Collection<Long> skillIds) {
+        return skillIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+    }
+
+    private static boolean has(long[] skillIds, long skillId) {
+        return Arrays.binarySearch(skillIds, skillId) >= 0;
+    }
+
+    // Position of the first element at or after from that is not below skillId
+    private static int seek(long[] skillIds, int from, long skillId) {
+        while (from < skillIds.length && skillIds[from] < skillId) {
+            from++;
+        }
+        return from;
+    }
+
+    private record Candidate(UUID id, String username, long[] claimed, long[] verified) {
+
+        Candidate withVerified(Collection<Long> skillIds) {
+            return new Candidate(id, username, claimed, LongStream.concat(Arrays.stream(verified),
+                    skillIds.stream().mapToLong(Long::longValue)).distinct().sorted().toArray());
+        }
+    }
+
+    private record Match(Candidate candidate, double score, int verified) {
+    }
+
+    /**
+     * The requested skills sorted by ID, each with its name and weight, so a candidate is
+     * scored in one merge-style pass over its sorted skill IDs
+     */
+    private static final class Query {
+
+        private final long[] skillIds;
+        private final String[] names;
+        private final double[] weights;
+        private final double totalWeight;
+
+        Query(Map<String, Long> ids, Map<Long, Integer> endorsements) {
+            Map<Long, String> unique = new TreeMap<>();
+            ids.forEach((name, id) -> unique.putIfAbsent(id, name));
+            skillIds = new long[unique.size()];
+            names = new String[unique.size()];
+            weights = new double[unique.size()];
+            double total = 0;
+            int i = 0;
+            for (Map.Entry<Long, String> skill : unique.entrySet()) {
+                skillIds[i] = skill.getKey();
+                names[i] = skill.getValue();
+                weights[i] = 1 + Math.log1p(Math.max(0, endorsements.getOrDefault(skill.getKey(), 0)));
+                total += weights[i];
+                i++;
+            }
+            totalWeight = total;
+        }
+
+        Match score(Candidate candidate) {
+            long[] verifiedIds = candidate.verified();
+            long[] claimedIds = candidate.claimed();
+            double score = 0;
+            int verified = 0;
+            boolean matched = false;
+            int v = 0;
+            int c = 0;
+            for (int i = 0; i < skillIds.length && (v < verifiedIds.length || c < claimedIds.length); i++) {
+                v = seek(verifiedIds, v, skillIds[i]);
+                if (v < verifiedIds.length && verifiedIds[v] == skillIds[i]) {
+                    score += weights[i];
+                    verified++;
+                    matched = true;
+                    continue;
+                }
+                c = seek(claimedIds, c, skillIds[i]);
+                if (c < claimedIds.length && claimedIds[c] == skillIds[i]) {
+                    score += weights[i] * CLAIMED_WEIGHT;
+                    matched = true;
+                }
+            }
+            return matched ? new Match(candidate, score / totalWeight, verified) : null;
+        }
+    }
+
+    /**
+     * Candidates split into fixed shards, the unit of parallel scanning, with the
+     * endorsement counts read in the same rebuild
+     */
+    private static final class Index {
+
+        private final Map<UUID, Candidate>[] shards;
+        private final Map<Long, Integer> endorsements;
+
+        @SuppressWarnings("unchecked")
+        Index(Map<UUID, Candidate> candidates, Map<Long, Integer> endorsements) {
+            this.endorsements = endorsements;
+            shards = new Map[SHARD_COUNT];
+            for (int i = 0; i < SHARD_COUNT; i++) {
+                shards[i] = new ConcurrentHashMap<>();
+            }
+            candidates.values().forEach(this::put);
+        }
+
+        Map<UUID, Candidate>[] shards() {
+            return shards;
+        }
+
+        Map<Long, Integer> endorsements() {
+            return endorsements;
+        }
+
+        int size() {
+            int size = 0;
+            for (Map<UUID, Candidate> shard : shards) {
+                size += shard.size();
+            }
+            return size;
+        }
+
+        Candidate get(UUID id) {
+            return shardOf(id).get(id);
+        }
+
+        void put(Candidate candidate) {
+            shardOf(candidate.id()).put(candidate.id(), candidate);
+        }
+
+        void remove(UUID id) {
+            shardOf(id).remove(id);
+        }
+
+        void update(UUID id, UnaryOperator<Candidate> change) {
+            shardOf(id).computeIfPresent(id, (key, candidate) -> change.apply(candidate));
+        }
+
+        private Map<UUID, Candidate> shardOf(UUID id) {
+            return shards[Math.floorMod(id.hashCode(), SHARD_COUNT)];
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.response.AnchorProofResponse;
+import com.certifypro.entity.AnchorBatch;
+import com.certifypro.entity.Certificate;
+import com.certifypro.exception.ResourceNotFoundException;
+import com.certifypro.repository.AnchorBatchRepository;
+import com.certifypro.repository.CertificateRepository;
+import com.certifypro.util.BlockchainUtil;
+import com.certifypro.util.MerkleTree;
+import com.certifypro.util.Transactions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Anchors issued certificates in batches. Certificates without an anchor batch form the
+ * queue; every {@code batch-size} issuances or {@code interval-ms}, whichever comes first,
+ * queued certificates are rolled into a Merkle tree and only the root is committed to the
+ * {@link LedgerService}. Each certificate keeps its inclusion proof, so verification is a
+ * local O(log n) check against the batch root.
+ *
+ * The leaf is the hash stored at issuance, and a certificate is only anchored while its
+ * fields still reproduce that hash, so a row altered while queued is never anchored.
+ * Only legacy hashes, which cannot be reproduced, are replaced by canonical ones.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CertificateAnchorService {
+
+    private static final String ANCHOR_SQL = "UPDATE certificates SET blockchain_hash = ?, hash_version = ?,"
+            + " merkle_proof = ?, anchor_batch_id = ? WHERE id = ? AND anchor_batch_id IS NULL"
+            + " AND blockchain_hash IS NOT DISTINCT FROM ?";
+
+    private final CertificateRepository certificateRepository;
+    private final AnchorBatchRepository anchorBatchRepository;
+    private final LedgerService ledgerService;
+    private final BlockchainUtil blockchainUtil;
+    private final VerificationCache verificationCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.anchoring.batch-size:256}")
+    private int batchSize;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock anchorLock = new ReentrantLock();
+    private final ExecutorService anchorExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "certificate-anchor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Batches are immutable once written, so their roots can be cached indefinitely
+    private final Cache<UUID, String> batchRoots = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    /**
+     * Note newly issued certificates. Once the current transaction commits, a full batch
+     * worth of queued certificates triggers anchoring without waiting for the interval.
+     *
+     * @param count Number of certificates issued
+     */
+    public void certificatesQueued(int count) {
+        if (count <= 0) {
+            return;
+        }
+        Transactions.afterCommit(() -> onQueued(count));
+    }
+
+    /**
+     * Anchor every queued certificate, one batch at a time. Runs at most once at a time
+     * per instance; concurrent instances are kept apart by the conditional update.
+     */
+    @Scheduled(fixedDelayString = "${app.anchoring.interval-ms:30000}")
+    public void anchorPending() {
+        if (!anchorLock.tryLock()) {
+            return;
+        }
+        try {
+            queued.set(0);
+            QueuePosition position = QueuePosition.START;
+            do {
+                position = anchorNextBatch(position);
+            } while (position != null);
+        } catch (RuntimeException e) {
+            log.error("Certificate anchoring failed, will retry", e);
+        } finally {
+            anchorLock.unlock();
+        }
+    }
+
+    /**
+     * Check a certificate's hash and, once anchored, its inclusion proof
+     *
+     * @param certificate The certificate, with skills loaded
+     * @return Whether the certificate is intact
+     */
+    public boolean verify(Certificate certificate) {
+        String hash = certificate.getBlockchainHash();
+        if (certificate.getHashVersion() == BlockchainUtil.LEGACY_HASH_VERSION) {
+            // Cannot be recomputed; legacy hashes are replaced when anchored
+            return certificate.getAnchorBatchId() == null && blockchainUtil.verifyBlockchainHash(hash);
+        }
+        if (!blockchainUtil.generateBlockchainHash(certificate).equals(hash)) {
+            return false;
+        }
+        if (certificate.getAnchorBatchId() == null) {
+            return true;
+        }
+        String root = batchRoots.get(certificate.getAnchorBatchId(), id -> anchorBatchRepository.findById(id)
+                .map(AnchorBatch::getMerkleRoot)
+                .orElse(null));
+        return root != null && MerkleTree.verify(hash, certificate.getMerkleProof(), root);
+    }
+
+    /**
+     * Get the anchoring proof of a certificate, for verification outside this service
+     *
+     * @param verificationId The public verification ID
+     * @return Hash, inclusion proof, root and ledger reference
+     */
+    public AnchorProofResponse getProof(String verificationId) {
+        Certificate certificate = certificateRepository.findByVerificationId(verificationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Certificate not found or invalid ID"));
+
+        AnchorProofResponse.AnchorProofResponseBuilder proof = AnchorProofResponse.builder()
+                .verificationId(verificationId)
+                .blockchainHash(certificate.getBlockchainHash())
+                .anchored(certificate.getAnchorBatchId() != null);
+        if (certificate.getAnchorBatchId() != null) {
+            AnchorBatch batch = anchorBatchRepository.findById(certificate.getAnchorBatchId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Anchor batch not found"));
+            String merkleProof = certificate.getMerkleProof();
+            proof.merkleProof(merkleProof.isEmpty() ? List.of() : Arrays.asList(merkleProof.split(",")))
+                    .merkleRoot(batch.getMerkleRoot())
+                    .ledger(batch.getLedger())
+                    .ledgerReference(batch.getLedgerReference())
+                    .anchoredAt(batch.getAnchoredAt());
+        }
+        return proof.build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        anchorExecutor.shutdownNow();
+    }
+
+    private void onQueued(int count) {
+        if (queued.addAndGet(count) >= batchSize) {
+            anchorExecutor.execute(this::anchorPending);
+        }
+    }
+
+    /**
+     * Anchor the next batch of queued certificates after the given queue position
+     *
+     * @return Position to continue from, or null once the queue is exhausted
+     */
+    private QueuePosition anchorNextBatch(QueuePosition after) {
+        List<Leaf> leaves = new ArrayList<>();
+        QueuePosition next = transactionTemplate.execute(status -> {
+            List<Certificate> pending = after == QueuePosition.START
+                    ? certificateRepository.findUnanchored(PageRequest.ofSize(batchSize))
+                    : certificateRepository.findUnanchoredAfter(after.createdAt(), after.id(),
+                            PageRequest.ofSize(batchSize));
+            for (Certificate certificate : pending) {
+                String recomputed = blockchainUtil.generateBlockchainHash(certificate);
+                if (certificate.getHashVersion() == BlockchainUtil.LEGACY_HASH_VERSION
+                        || recomputed.equals(certificate.getBlockchainHash())) {
+                    leaves.add(new Leaf(certificate.getId(), certificate.getBlockchainHash(), recomputed));
+                } else {
+                    // Left in the queue, where verification keeps failing it
+                    log.error("Certificate {} no longer matches the hash stored at issuance; not anchoring it",
+                            certificate.getId());
+                }
+            }
+            if (pending.size() < batchSize) {
+                return null;
+            }
+            Certificate last = pending.get(pending.size() - 1);
+            return new QueuePosition(last.getCreatedAt(), last.getId());
+        });
+        if (leaves.isEmpty()) {
+            return next;
+        }
+
+        MerkleTree tree = new MerkleTree(leaves.stream().map(Leaf::hash).toList());
+        // Committed before, and outside, the transaction that records the batch, so no row
+        // locks are held during the ledger write. A root whose batch then fails to be
+        // recorded is simply never referenced.
+        String reference = ledgerService.commit(tree.getRoot(), leaves.size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            AnchorBatch batch = anchorBatchRepository.save(AnchorBatch.builder()
+                    .merkleRoot(tree.getRoot())
+                    .leafCount(leaves.size())
+                    .ledger(ledgerService.getName())
+                    .ledgerReference(reference)
+                    .build());
+
+            List<Object[]> updates = new ArrayList<>(leaves.size());
+            for (int i = 0; i < leaves.size(); i++) {
+                Leaf leaf = leaves.get(i);
+                updates.add(new Object[] { leaf.hash(), tree.proof(i), batch.getId(), leaf.id(), leaf.storedHash() });
+            }
+            int[][] rows = jdbcTemplate.batchUpdate(ANCHOR_SQL, updates, updates.size(),
+                    (ps, row) -> {
+                        ps.setString(1, (String) row[0]);
+                        ps.setInt(2, BlockchainUtil.HASH_VERSION);
+                        ps.setString(3, (String) row[1]);
+                        ps.setObject(4, row[2]);
+                        ps.setObject(5, row[3]);
+                        ps.setString(6, (String) row[4]);
+                    });
+            for (int[] chunk : rows) {
+                for (int updated : chunk) {
+                    if (updated == 0) {
+                        // Anchored by another instance, or the hash changed since it was read;
+                        // retry on the next run
+                        throw new OptimisticLockingFailureException("Certificates changed while being anchored");
+                    }
+                }
+            }
+        });
+
+        // Cached verification snapshots still show the certificates as queued
+        verificationCache.evictCertificates(leaves.stream().map(Leaf::id).toList());
+        log.info("Anchored {} certificates", leaves.size());
+        return next;
+    }
+
+    /**
+     * Last certificate read from the anchoring queue
+     */
+    private record QueuePosition(LocalDateTime createdAt, UUID id) {
+
+        static final QueuePosition START = new QueuePosition(null, null);
+    }
+
+    /**
+     * A certificate to anchor: the hash it was read with and the hash its leaf commits to,
+     * which differ only for legacy hashes
+     */
+    private record Leaf(UUID id, String storedHash, String hash) {
+    }
+}
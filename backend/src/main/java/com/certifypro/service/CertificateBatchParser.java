@@ -0,0 +1,281 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.request.CertificateRequest;
+import com.certifypro.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * Reads batch issuance rows lazily from a streamed NDJSON or CSV request body, so
+ * the whole upload never has to be held in memory.
+ *
+ * CSV input needs a header row naming the columns {@code name}, {@code recipientEmail},
+ * {@code issuedDate} and optionally {@code description}, {@code expiryDate} and
+ * {@code skills}. Skills are separated by {@code ;} within the field; an empty field is
+ * an empty list, as {@code []} is in NDJSON. Fields follow RFC 4180: quoted fields may
+ * contain commas, doubled quotes and line breaks, and a leading UTF-8 byte order mark
+ * (as written by spreadsheet exports) is ignored.
+ *
+ * A row that cannot be read is returned with an error instead of failing the upload,
+ * so it shows up in the batch report like any other invalid row.
+ */
+@Component
+@RequiredArgsConstructor
+public class CertificateBatchParser {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "recipientemail", "issueddate");
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    // Bounds the memory an unterminated quote can make a single record take
+    private static final int MAX_CSV_RECORD_LENGTH = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * A batch row: the request as read, and an error if part of the row was unreadable
+     */
+    public record Row(CertificateRequest request, String error) {
+
+        public static Row of(CertificateRequest request) {
+            return new Row(request, null);
+        }
+    }
+
+    public Iterator<Row> parse(InputStream body, MediaType contentType) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+            return new CsvRowIterator(reader);
+        }
+        return ndjson(reader);
+    }
+
+    private Iterator<Row> ndjson(BufferedReader reader) {
+        MappingIterator<CertificateRequest> rows;
+        try {
+            rows = objectMapper.readerFor(CertificateRequest.class).readValues(reader);
+        } catch (IOException e) {
+            throw new BadRequestException("Invalid NDJSON body: " + e.getMessage());
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return rows.hasNext();
+                } catch (RuntimeJsonMappingException e) {
+                    throw new BadRequestException("Invalid NDJSON row: " + e.getMessage());
+                }
+            }
+
+            @Override
+            public Row next() {
+                try {
+                    return Row.of(rows.next());
+                } catch (RuntimeJsonMappingException e) {
+                    // The iterator skips the rest of the bad value on the next hasNext()
+                    String message = e.getCause() instanceof JsonProcessingException cause
+                            ? cause.getOriginalMessage()
+                            : e.getMessage();
+                    return new Row(null, "Invalid row: " + message);
+                }
+            }
+        };
+    }
+
+    private static final class CsvRowIterator implements Iterator<Row> {
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private int lineNumber;
+        private String nextRecord;
+        private int nextRecordLine;
+
+        private CsvRowIterator(BufferedReader reader) {
+            this.reader = reader;
+            String header = readRecord();
+            if (header == null) {
+                throw new BadRequestException("CSV body is empty");
+            }
+            if (header.charAt(0) == BYTE_ORDER_MARK) {
+                header = header.substring(1);
+            }
+            List<String> names;
+            try {
+                names = splitLine(header);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid CSV header: " + e.getMessage());
+            }
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : REQUIRED_CSV_COLUMNS) {
+                if (!columns.containsKey(required)) {
+                    throw new BadRequestException("CSV header is missing required column: " + required);
+                }
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRecord != null;
+        }
+
+        @Override
+        public Row next() {
+            if (nextRecord == null) {
+                throw new NoSuchElementException();
+            }
+            String record = nextRecord;
+            int number = nextRecordLine;
+            advance();
+            try {
+                return toRow(splitLine(record), number);
+            } catch (IllegalArgumentException e) {
+                return new Row(null, e.getMessage() + " on CSV line " + number);
+            }
+        }
+
+        private void advance() {
+            nextRecord = readRecord();
+        }
+
+        /**
+         * Read the next non-blank record, joining physical lines while a quoted field is open.
+         * A quote left open at the end of the body ends the record; splitting it then fails.
+         */
+        private String readRecord() {
+            try {
+                String line;
+                do {
+                    line = reader.readLine();
+                    lineNumber++;
+                } while (line != null && line.isBlank());
+                if (line == null) {
+                    return null;
+                }
+                nextRecordLine = lineNumber;
+                StringBuilder record = new StringBuilder(line);
+                boolean quoted = opensQuote(line, false);
+                while (quoted && (line = reader.readLine()) != null) {
+                    lineNumber++;
+                    record.append('\n').append(line);
+                    if (record.length() > MAX_CSV_RECORD_LENGTH) {
+                        throw new BadRequestException("CSV record starting on line " + nextRecordLine
+                                + " exceeds " + MAX_CSV_RECORD_LENGTH + " characters; check for an unclosed quote");
+                    }
+                    quoted = opensQuote(line, true);
+                }
+                return record.toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // Doubled quotes toggle twice, so only the parity of quote characters matters
+        private static boolean opensQuote(String line, boolean quoted) {
+            for (int i = 0; i < line.length(); i++) {
+                if (line.charAt(i) == '"') {
+                    quoted = !quoted;
+                }
+            }
+            return quoted;
+        }
+
+        private Row toRow(List<String> fields, int number) {
+            CertificateRequest request = new CertificateRequest();
+            List<String> errors = new ArrayList<>();
+            request.setName(field(fields, "name"));
+            request.setDescription(field(fields, "description"));
+            request.setRecipientEmail(field(fields, "recipientemail"));
+            request.setIssuedDate(date(fields, "issueddate", number, errors));
+            request.setExpiryDate(date(fields, "expirydate", number, errors));
+
+            // A missing column is an absent list, an empty field an empty one
+            if (columns.containsKey("skills")) {
+                String skills = field(fields, "skills");
+                request.setSkills(skills == null ? new LinkedHashSet<>() : Arrays.stream(skills.split(";"))
+                        .map(String::trim)
+                        .filter(skill -> !skill.isEmpty())
+                        .collect(Collectors.toCollection(LinkedHashSet::new)));
+            }
+            return new Row(request, errors.isEmpty() ? null : String.join("; ", errors));
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private LocalDate date(List<String> fields, String column, int number, List<String> errors) {
+            String value = field(fields, column);
+            try {
+                return value == null ? null : LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                errors.add("Invalid " + column + " on CSV line " + number + ": " + value);
+                return null;
+            }
+        }
+
+        private List<String> splitLine(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.response.CertificateResponse;
+import com.certifypro.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Writes certificate rows one at a time as NDJSON or CSV, restricted to a projection
+ * of {@link CertificateResponse} fields. Nothing is buffered beyond the writer's own
+ * buffer, so export memory does not grow with the number of rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class CertificateExportWriter {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+    }
+
+    private static final Map<String, Function<CertificateResponse, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("id", CertificateResponse::getId);
+        FIELDS.put("name", CertificateResponse::getName);
+        FIELDS.put("description", CertificateResponse::getDescription);
+        FIELDS.put("issuedDate", CertificateResponse::getIssuedDate);
+        FIELDS.put("expiryDate", CertificateResponse::getExpiryDate);
+        FIELDS.put("status", CertificateResponse::getStatus);
+        FIELDS.put("blockchainHash", CertificateResponse::getBlockchainHash);
+        FIELDS.put("verificationId", CertificateResponse::getVerificationId);
+        FIELDS.put("views", CertificateResponse::getViews);
+        FIELDS.put("holderName", CertificateResponse::getHolderName);
+        FIELDS.put("holderUsername", CertificateResponse::getHolderUsername);
+        FIELDS.put("issuerName", CertificateResponse::getIssuerName);
+        FIELDS.put("issuerOrganization", CertificateResponse::getIssuerOrganization);
+        FIELDS.put("skills", CertificateResponse::getSkills);
+        FIELDS.put("qrCode", CertificateResponse::getQrCode);
+    }
+
+    private static final List<String> DEFAULT_FIELDS = List.copyOf(FIELDS.keySet());
+
+    private final ObjectMapper objectMapper;
+
+    public Format resolveFormat(String format) {
+        try {
+            return Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+    }
+
+    public List<String> resolveFields(Collection<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return DEFAULT_FIELDS;
+        }
+        List<String> fields = new ArrayList<>();
+        for (String field : requested) {
+            if (!FIELDS.containsKey(field)) {
+                throw new BadRequestException("Unknown export field: " + field);
+            }
+            if (!fields.contains(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    public Sink open(Format format, List<String> fields, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Sink sink = new Sink(format, fields, writer);
+        if (format == Format.CSV) {
+            sink.writeCsvLine(new ArrayList<>(fields));
+        }
+        return sink;
+    }
+
+    public class Sink implements Closeable {
+
+        private final Format format;
+        private final List<String> fields;
+        private final Writer writer;
+
+        private Sink(Format format, List<String> fields, Writer writer) {
+            this.format = format;
+            this.fields = fields;
+            this.writer = writer;
+        }
+
+        public void write(CertificateResponse certificate) throws IOException {
+            if (format == Format.CSV) {
+                List<Object> values = new ArrayList<>(fields.size());
+                for (String field : fields) {
+                    values.add(FIELDS.get(field).apply(certificate));
+                }
+                writeCsvLine(values);
+            } else {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (String field : fields) {
+                    row.put(field, FIELDS.get(field).apply(certificate));
+                }
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        /**
+         * Flushes remaining output; the underlying response stream is left open.
+         */
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        private void writeCsvLine(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvValue(values.get(i)));
+            }
+            writer.write('\n');
+        }
+
+        private String csvValue(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value instanceof Collection<?> collection
+                    ? String.join(";", collection.stream().map(String::valueOf).sorted().toList())
+                    : String.valueOf(value);
+            if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+                return "\"" + text.replace("\"", "\"\"") + "\"";
+            }
+            return text;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.certifypro.dto.request.ApproveCertificateRequestDto;
 import com.certifypro.dto.request.CreateCertificateRequestDto;
 import com.certifypro.dto.request.RejectCertificateRequestDto;
 import com.certifypro.dto.response.CertificateRequestResponse;
+import com.certifypro.dto.response.CursorPage;
+import com.certifypro.util.KeysetCursor;
 
 import java.util.List;
 import java.util.UUID;
@@ -43,6 +45,27 @@ public interface CertificateRequestService {
      */
     List<CertificateRequestResponse> getAllRequestsForIssuer(String issuerUsername);
 
+    /**
+     * Get one keyset page of pending requests for an issuer, newest first
+     *
+     * @param issuerUsername The issuer's username
+     * @param cursor         The cursor returned with the previous page, or null for the first page
+     * @param limit          Page size, clamped to {@link KeysetCursor#MAX_LIMIT}
+     * @return The page and the cursor of the next one, if any
+     */
+    CursorPage<CertificateRequestResponse> getPendingRequests(String issuerUsername, String cursor, Integer limit);
+
+    /**
+     * Get one keyset page of all requests for an issuer, newest first
+     *
+     * @param issuerUsername The issuer's username
+     * @param cursor         The cursor returned with the previous page, or null for the first page
+     * @param limit          Page size, clamped to {@link KeysetCursor#MAX_LIMIT}
+     * @return The page and the cursor of the next one, if any
+     */
+    CursorPage<CertificateRequestResponse> getAllRequestsForIssuer(String issuerUsername, String cursor,
+            Integer limit);
+
     /**
      * Approve a certificate request and issue the certificate
      *
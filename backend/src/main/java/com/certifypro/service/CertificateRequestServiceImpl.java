@@ -5,19 +5,24 @@ import com.certifypro.dto.request.CertificateRequest;
 import com.certifypro.dto.request.CreateCertificateRequestDto;
 import com.certifypro.dto.request.RejectCertificateRequestDto;
 import com.certifypro.dto.response.CertificateRequestResponse;
+import com.certifypro.dto.response.CursorPage;
 import com.certifypro.entity.Skill;
 import com.certifypro.entity.User;
 import com.certifypro.exception.ResourceNotFoundException;
 import com.certifypro.repository.CertificateRequestRepository;
-import com.certifypro.repository.SkillRepository;
 import com.certifypro.repository.UserRepository;
+import com.certifypro.repository.projection.CertificateRequestListView;
+import com.certifypro.repository.projection.SkillNameView;
+import com.certifypro.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,7 +33,7 @@ public class CertificateRequestServiceImpl implements CertificateRequestService
 
         private final CertificateRequestRepository requestRepository;
         private final UserRepository userRepository;
-        private final SkillRepository skillRepository;
+        private final SkillDictionary skillDictionary;
         private final CertificateService certificateService;
 
         @Override
@@ -41,17 +46,7 @@ public class CertificateRequestServiceImpl implements CertificateRequestService
                                 .orElseThrow(() -> new ResourceNotFoundException(
                                                 "Issuer not found: " + dto.getIssuerUsername()));
 
-                // Get or create skills
-                Set<Skill> skills = new HashSet<>();
-                for (String skillName : dto.getSkills()) {
-                        Skill skill = skillRepository.findByName(skillName)
-                                        .orElseGet(() -> {
-                                                Skill newSkill = new Skill();
-                                                newSkill.setName(skillName);
-                                                return skillRepository.save(newSkill);
-                                        });
-                        skills.add(skill);
-                }
+                Set<Skill> skills = skillDictionary.resolveAll(dto.getSkills());
 
                 com.certifypro.entity.CertificateRequest request = com.certifypro.entity.CertificateRequest.builder()
                                 .requester(requester)
@@ -71,10 +66,7 @@ public class CertificateRequestServiceImpl implements CertificateRequestService
                 User requester = userRepository.findByUsername(username)
                                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-                return requestRepository.findByRequesterOrderByRequestedAtDesc(requester)
-                                .stream()
-                                .map(this::convertToResponse)
-                                .collect(Collectors.toList());
+                return toResponses(requestRepository.findViewsByRequester(requester));
         }
 
         @Override
@@ -83,12 +75,8 @@ public class CertificateRequestServiceImpl implements CertificateRequestService
                 User issuer = userRepository.findByUsername(issuerUsername)
                                 .orElseThrow(() -> new ResourceNotFoundException("Issuer not found"));
 
-                return requestRepository
-                                .findByIssuerAndStatus(issuer,
-                                                com.certifypro.entity.CertificateRequest.RequestStatus.PENDING)
-                                .stream()
-                                .map(this::convertToResponse)
-                                .collect(Collectors.toList());
+                return toResponses(requestRepository.findViewsByIssuerAndStatus(issuer,
+                                com.certifypro.entity.CertificateRequest.RequestStatus.PENDING));
         }
 
         @Override
@@ -97,10 +85,45 @@ public class CertificateRequestServiceImpl implements CertificateRequestService
                 User issuer = userRepository.findByUsername(issuerUsername)
                                 .orElseThrow(() -> new ResourceNotFoundException("Issuer not found"));
 
-                return requestRepository.findByIssuerOrderByRequestedAtDesc(issuer)
-                                .stream()
-                                .map(this::convertToResponse)
-                                .collect(Collectors.toList());
+                return toResponses(requestRepository.findViewsByIssuer(issuer));
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public CursorPage<CertificateRequestResponse> getPendingRequests(String issuerUsername, String cursor,
+                        Integer limit) {
+                User issuer = userRepository.findByUsername(issuerUsername)
+                                .orElseThrow(() -> new ResourceNotFoundException("Issuer not found"));
+
+                int pageSize = KeysetCursor.clampLimit(limit);
+                KeysetCursor after = KeysetCursor.decode(cursor);
+                Pageable window = PageRequest.ofSize(pageSize + 1);
+                com.certifypro.entity.CertificateRequest.RequestStatus pending =
+                                com.certifypro.entity.CertificateRequest.RequestStatus.PENDING;
+                List<CertificateRequestListView> rows = after == null
+                                ? requestRepository.findPageByIssuerAndStatus(issuer, pending, window)
+                                : requestRepository.findPageByIssuerAndStatusAfter(issuer, pending,
+                                                after.getTimestamp(), after.getId(), window);
+                Map<UUID, Set<String>> skills = skillNamesOf(rows);
+                return CursorPage.of(rows, pageSize, row -> convertToResponse(row, skills), this::cursorOf);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public CursorPage<CertificateRequestResponse> getAllRequestsForIssuer(String issuerUsername, String cursor,
+                        Integer limit) {
+                User issuer = userRepository.findByUsername(issuerUsername)
+                                .orElseThrow(() -> new ResourceNotFoundException("Issuer not found"));
+
+                int pageSize = KeysetCursor.clampLimit(limit);
+                KeysetCursor after = KeysetCursor.decode(cursor);
+                Pageable window = PageRequest.ofSize(pageSize + 1);
+                List<CertificateRequestListView> rows = after == null
+                                ? requestRepository.findPageByIssuer(issuer, window)
+                                : requestRepository.findPageByIssuerAfter(issuer, after.getTimestamp(),
+                                                after.getId(), window);
+                Map<UUID, Set<String>> skills = skillNamesOf(rows);
+                return CursorPage.of(rows, pageSize, row -> convertToResponse(row, skills), this::cursorOf);
         }
 
         @Override
@@ -165,6 +188,42 @@ public class CertificateRequestServiceImpl implements CertificateRequestService
                 return convertToResponse(updatedRequest);
         }
 
+        private KeysetCursor cursorOf(CertificateRequestListView request) {
+                return new KeysetCursor(request.getRequestedAt(), request.getId());
+        }
+
+        private List<CertificateRequestResponse> toResponses(List<CertificateRequestListView> rows) {
+                Map<UUID, Set<String>> skills = skillNamesOf(rows);
+                return rows.stream()
+                                .map(row -> convertToResponse(row, skills))
+                                .collect(Collectors.toList());
+        }
+
+        private Map<UUID, Set<String>> skillNamesOf(List<CertificateRequestListView> rows) {
+                List<UUID> ids = rows.stream().map(CertificateRequestListView::getId).toList();
+                return SkillNameView.load(ids, requestRepository::findSkillNames);
+        }
+
+        private CertificateRequestResponse convertToResponse(CertificateRequestListView request,
+                        Map<UUID, Set<String>> skills) {
+                return CertificateRequestResponse.builder()
+                                .id(request.getId())
+                                .requesterUsername(request.getRequesterUsername())
+                                .requesterEmail(request.getRequesterEmail())
+                                .issuerUsername(request.getIssuerUsername())
+                                .requestMessage(request.getRequestMessage())
+                                .skills(skills.getOrDefault(request.getId(), Set.of()))
+                                .status(request.getStatus())
+                                .requestedAt(request.getRequestedAt())
+                                .respondedAt(request.getRespondedAt())
+                                .rejectionReason(request.getRejectionReason())
+                                .paymentAmount(request.getPaymentAmount())
+                                .isPaid(request.getIsPaid())
+                                .paymentTransactionId(request.getPaymentTransactionId())
+                                .paidAt(request.getPaidAt())
+                                .build();
+        }
+
         private CertificateRequestResponse convertToResponse(com.certifypro.entity.CertificateRequest request) {
                 return CertificateRequestResponse.builder()
                                 .id(request.getId())
@@ -1,7 +1,9 @@
 package com.certifypro.service;
 
 import com.certifypro.dto.request.CertificateRequest;
+import com.certifypro.dto.response.BatchIssueResponse;
 import com.certifypro.dto.response.CertificateResponse;
+import com.certifypro.dto.response.CursorPage;
 import com.certifypro.entity.Certificate;
 import com.certifypro.entity.CertificateStatus;
 import com.certifypro.entity.Skill;
@@ -10,30 +12,68 @@ import com.certifypro.exception.BadRequestException;
 import com.certifypro.exception.ResourceNotFoundException;
 import com.certifypro.exception.UnauthorizedException;
 import com.certifypro.repository.CertificateRepository;
-import com.certifypro.repository.SkillRepository;
 import com.certifypro.repository.UserRepository;
+import com.certifypro.repository.projection.CertificateListView;
+import com.certifypro.repository.projection.SkillNameView;
+import com.certifypro.repository.projection.UserEmailView;
+import com.certifypro.security.CertificateTokenProvider;
 import com.certifypro.util.BlockchainUtil;
-import com.certifypro.service.QRCodeService;
+import com.certifypro.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class CertificateService {
 
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final CertificateRepository certificateRepository;
     private final UserRepository userRepository;
-    private final SkillRepository skillRepository;
+    private final SkillDictionary skillDictionary;
     private final QRCodeService qrCodeService;
     private final BlockchainUtil blockchainUtil;
+    private final CertificateAnchorService certificateAnchorService;
+    private final CertificateTokenProvider certificateTokenProvider;
+    private final RevocationRegistry revocationRegistry;
+    private final CandidateMatcher candidateMatcher;
+    private final StatsCounters statsCounters;
+    private final VerificationEventPipeline verificationEvents;
+    private final VerificationCache verificationCache;
+    private final CertificateViewCounter viewCounter;
+    private final EntityManager entityManager;
+    private final CertificateExportWriter exportWriter;
+    private final Validator validator;
+
+    @Value("${app.certificates.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${app.certificates.batch.max-rows:10000}")
+    private int batchMaxRows;
 
     @Transactional
     public CertificateResponse issueCertificate(CertificateRequest request, String issuerUsername) {
@@ -46,14 +86,146 @@ public class CertificateService {
                 .orElseThrow(() -> new ResourceNotFoundException("Recipient not found. User must register first."));
 
         // Get or create skills
-        Set<Skill> skills = getOrCreateSkills(request.getSkills());
+        Set<Skill> skills = skillDictionary.resolveAll(request.getSkills());
 
-        // Generate verification ID and QR code
+        // Generate verification ID
         String verificationId = qrCodeService.generateVerificationId();
-        String qrCode = qrCodeService.generateQRCodeBase64(verificationId);
 
-        // Create certificate
+        Certificate certificate = buildCertificate(request, holder, issuer, skills, verificationId);
+        certificate = certificateRepository.save(certificate);
+        certificateAnchorService.certificatesQueued(1);
+        statsCounters.certificatesIssued(issuerUsername, 1);
+        candidateMatcher.skillsVerified(Map.of(holder.getId(), skills.stream().map(Skill::getId).toList()));
+
+        // The serial number is assigned by the database on insert
+        entityManager.flush();
+        certificate.setSerialNumber(certificateRepository.findSerialNumberById(certificate.getId()));
+
+        return withToken(convertToCertificateResponse(certificate));
+    }
+
+    /**
+     * Issue certificates for many recipients in one transaction. Rows are processed in
+     * chunks: each chunk resolves its recipients and skills with one query apiece and is
+     * written with JDBC batch inserts. Invalid rows are reported instead of failing the
+     * whole batch.
+     */
+    @Transactional
+    public BatchIssueResponse issueCertificates(Iterator<CertificateBatchParser.Row> rows, String issuerUsername) {
+        User issuer = userRepository.findByUsername(issuerUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("Issuer not found"));
+
+        List<BatchIssueResponse.RowResult> results = new ArrayList<>();
+        List<CertificateBatchParser.Row> chunk = new ArrayList<>(batchChunkSize);
+        int rowCount = 0;
+
+        while (rows.hasNext()) {
+            if (rowCount == batchMaxRows) {
+                throw new BadRequestException("Batch exceeds the maximum of " + batchMaxRows + " certificates");
+            }
+            chunk.add(rows.next());
+            rowCount++;
+            if (chunk.size() == batchChunkSize) {
+                issueChunk(chunk, rowCount - chunk.size() + 1, issuer, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            issueChunk(chunk, rowCount - chunk.size() + 1, issuer, results);
+        }
+        if (rowCount == 0) {
+            throw new BadRequestException("At least one certificate is required");
+        }
+
+        int issued = (int) results.stream().filter(BatchIssueResponse.RowResult::isSuccess).count();
+        statsCounters.certificatesIssued(issuerUsername, issued);
+        return BatchIssueResponse.builder()
+                .total(rowCount)
+                .issued(issued)
+                .failed(rowCount - issued)
+                .results(results)
+                .build();
+    }
+
+    private void issueChunk(List<CertificateBatchParser.Row> chunk, int firstRow, User issuer,
+            List<BatchIssueResponse.RowResult> results) {
+        // Resolve every recipient and skill of the chunk up front
+        Set<String> emails = chunk.stream()
+                .filter(row -> row.error() == null)
+                .map(row -> row.request().getRecipientEmail())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, UserEmailView> recipients = userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(UserEmailView::getEmail, Function.identity()));
+
+        Set<String> skillNames = chunk.stream()
+                .filter(row -> row.error() == null && row.request().getSkills() != null)
+                .flatMap(row -> row.request().getSkills().stream())
+                .collect(Collectors.toSet());
+        Map<String, Skill> skills = skillDictionary.resolve(skillNames);
+
+        Iterator<String> verificationIds = generateVerificationIds(chunk.size()).iterator();
+        List<Certificate> certificates = new ArrayList<>(chunk.size());
+        Map<UUID, Set<Long>> verifiedSkills = new HashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            CertificateBatchParser.Row row = chunk.get(i);
+            CertificateRequest request = row.request();
+            BatchIssueResponse.RowResult.RowResultBuilder result = BatchIssueResponse.RowResult.builder()
+                    .row(firstRow + i)
+                    .recipientEmail(request != null ? request.getRecipientEmail() : null);
+
+            String error = row.error() != null ? row.error() : validateRow(request, recipients);
+            if (error != null) {
+                results.add(result.success(false).error(error).build());
+                continue;
+            }
+
+            UserEmailView recipient = recipients.get(request.getRecipientEmail());
+            Set<Skill> certificateSkills = request.getSkills().stream()
+                    .map(skills::get)
+                    .collect(Collectors.toSet());
+            Certificate certificate = buildCertificate(request, userRepository.getReferenceById(recipient.getId()),
+                    issuer, certificateSkills, verificationIds.next());
+            certificates.add(certificate);
+            certificateSkills.forEach(skill -> verifiedSkills
+                    .computeIfAbsent(recipient.getId(), holder -> new HashSet<>())
+                    .add(skill.getId()));
+
+            results.add(result.success(true)
+                    .certificateId(certificate.getId())
+                    .verificationId(certificate.getVerificationId())
+                    .build());
+        }
+
+        certificateRepository.saveAll(certificates);
+        certificateAnchorService.certificatesQueued(certificates.size());
+        candidateMatcher.skillsVerified(verifiedSkills);
+
+        // Write the chunk as JDBC batches and keep the persistence context small
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private String validateRow(CertificateRequest request, Map<String, UserEmailView> recipients) {
+        Set<ConstraintViolation<CertificateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!recipients.containsKey(request.getRecipientEmail())) {
+            return "Recipient not found. User must register first.";
+        }
+        return null;
+    }
+
+    private Certificate buildCertificate(CertificateRequest request, User holder, User issuer, Set<Skill> skills,
+            String verificationId) {
+        // ID is assigned up front so the hash is known before the single insert
         Certificate certificate = Certificate.builder()
+                .id(UUID.randomUUID())
                 .name(request.getName())
                 .description(request.getDescription())
                 .issuedDate(request.getIssuedDate())
@@ -64,56 +236,160 @@ public class CertificateService {
                 .skills(skills)
                 .views(0)
                 .verificationId(verificationId)
-                .qrCode(qrCode)
                 .build();
+        certificate.setBlockchainHash(blockchainUtil.generateBlockchainHash(certificate));
+        certificate.setHashVersion(BlockchainUtil.HASH_VERSION);
+        return certificate;
+    }
 
-        certificate = certificateRepository.save(certificate);
+    private Set<String> generateVerificationIds(int count) {
+        Set<String> verificationIds = new LinkedHashSet<>();
+        while (verificationIds.size() < count) {
+            Set<String> candidates = new HashSet<>();
+            while (candidates.size() < count - verificationIds.size()) {
+                String candidate = qrCodeService.generateVerificationId();
+                if (!verificationIds.contains(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            certificateRepository.findExistingVerificationIds(candidates).forEach(candidates::remove);
+            verificationIds.addAll(candidates);
+        }
+        return verificationIds;
+    }
 
-        // Generate blockchain hash
-        String blockchainHash = blockchainUtil.generateBlockchainHash(
-                certificate.getId(),
-                holder.getEmail(),
-                issuer.getEmail(),
-                certificate.getName());
-        certificate.setBlockchainHash(blockchainHash);
+    @Transactional(readOnly = true)
+    public List<CertificateResponse> getUserCertificates(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        certificate = certificateRepository.save(certificate);
+        return toResponses(certificateRepository.findViewsByHolder(user));
+    }
 
-        return convertToCertificateResponse(certificate);
+    @Transactional(readOnly = true)
+    public List<CertificateResponse> getIssuedCertificates(String issuerUsername) {
+        User issuer = userRepository.findByUsername(issuerUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("Issuer not found"));
+
+        return toResponses(certificateRepository.findViewsByIssuer(issuer));
     }
 
+    /**
+     * Get one keyset page of a holder's certificates, newest first
+     *
+     * @param username The holder's username
+     * @param cursor   The cursor returned with the previous page, or null for the first page
+     * @param limit    Page size, clamped to {@link KeysetCursor#MAX_LIMIT}
+     * @return The page and the cursor of the next one, if any
+     */
     @Transactional(readOnly = true)
-    public List<CertificateResponse> getUserCertificates(String username) {
+    public CursorPage<CertificateResponse> getUserCertificates(String username, String cursor, Integer limit) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        List<Certificate> certificates = certificateRepository.findByHolder(user);
-        return certificates.stream()
-                .map(this::convertToCertificateResponse)
-                .collect(Collectors.toList());
+        int pageSize = KeysetCursor.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable window = PageRequest.ofSize(pageSize + 1);
+        List<CertificateListView> rows = after == null
+                ? certificateRepository.findPageByHolder(user, window)
+                : certificateRepository.findPageByHolderAfter(user, after.getTimestamp(), after.getId(), window);
+        Map<UUID, Set<String>> skills = skillNamesOf(rows);
+        return CursorPage.of(rows, pageSize, row -> convertToCertificateResponse(row, skills), this::cursorOf);
     }
 
+    /**
+     * Get one keyset page of an issuer's certificates, newest first
+     *
+     * @param issuerUsername The issuer's username
+     * @param cursor         The cursor returned with the previous page, or null for the first page
+     * @param limit          Page size, clamped to {@link KeysetCursor#MAX_LIMIT}
+     * @return The page and the cursor of the next one, if any
+     */
     @Transactional(readOnly = true)
-    public List<CertificateResponse> getIssuedCertificates(String issuerUsername) {
+    public CursorPage<CertificateResponse> getIssuedCertificates(String issuerUsername, String cursor,
+            Integer limit) {
         User issuer = userRepository.findByUsername(issuerUsername)
                 .orElseThrow(() -> new ResourceNotFoundException("Issuer not found"));
 
-        List<Certificate> certificates = certificateRepository.findByIssuer(issuer);
-        return certificates.stream()
-                .map(this::convertToCertificateResponse)
-                .collect(Collectors.toList());
+        int pageSize = KeysetCursor.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable window = PageRequest.ofSize(pageSize + 1);
+        List<CertificateListView> rows = after == null
+                ? certificateRepository.findPageByIssuer(issuer, window)
+                : certificateRepository.findPageByIssuerAfter(issuer, after.getTimestamp(), after.getId(), window);
+        Map<UUID, Set<String>> skills = skillNamesOf(rows);
+        return CursorPage.of(rows, pageSize, row -> convertToCertificateResponse(row, skills), this::cursorOf);
     }
 
-    @Transactional
+    /**
+     * Stream every certificate of an issuer to {@code out}. Rows are read as projections
+     * through a database cursor and written in chunks, with one skills query per chunk,
+     * so memory use does not depend on how many certificates the issuer has.
+     */
+    @Transactional(readOnly = true)
+    public void exportIssuedCertificates(String issuerUsername, CertificateExportWriter.Format format,
+            List<String> fields, OutputStream out) throws IOException {
+        User issuer = userRepository.findByUsername(issuerUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("Issuer not found"));
+
+        try (Stream<CertificateListView> certificates = certificateRepository.streamByIssuer(issuer);
+                CertificateExportWriter.Sink sink = exportWriter.open(format, fields, out)) {
+            Iterator<CertificateListView> rows = certificates.iterator();
+            List<CertificateListView> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !rows.hasNext()) {
+                    for (CertificateResponse response : toResponses(chunk)) {
+                        sink.write(response);
+                    }
+                    sink.flush();
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * List entries for the given certificates, in the order of the IDs
+     *
+     * @param ids Certificate IDs; IDs that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<CertificateResponse> getCertificates(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, CertificateResponse> byId = toResponses(certificateRepository.findViewsByIdIn(ids)).stream()
+                .collect(Collectors.toMap(CertificateResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public CertificateResponse getCertificateById(UUID id) {
         Certificate certificate = certificateRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Certificate not found"));
 
         // Increment view count
-        certificate.incrementViews();
-        certificateRepository.save(certificate);
+        viewCounter.recordView(certificate.getId());
+
+        return withToken(convertToCertificateResponse(certificate));
+    }
 
-        return convertToCertificateResponse(certificate);
+    /**
+     * Get the signed token a certificate's QR code embeds, from the cached verification
+     * snapshot when possible
+     *
+     * @param verificationId The public verification ID
+     * @return Compact signed certificate token
+     * @throws ResourceNotFoundException if no certificate has the verification ID
+     */
+    public String getVerificationToken(String verificationId) {
+        CertificateResponse certificate = verificationCache.get(verificationId)
+                .orElseGet(() -> loadVerificationSnapshot(verificationId));
+        return certificate.getVerificationToken();
     }
 
     @Transactional
@@ -128,6 +404,10 @@ public class CertificateService {
 
         certificate.setStatus(CertificateStatus.REVOKED);
         certificateRepository.save(certificate);
+        verificationCache.evict(certificate.getVerificationId());
+        revocationRegistry.markRevoked(certificate.getSerialNumber());
+        candidateMatcher.candidateChanged(certificate.getHolder().getId());
+        statsCounters.certificateRevoked(issuerUsername);
     }
 
     @Transactional(readOnly = true)
@@ -142,8 +422,8 @@ public class CertificateService {
         Certificate certificate = certificateRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Certificate not found or invalid"));
 
-        // Verify blockchain hash
-        if (!blockchainUtil.verifyBlockchainHash(certificate.getBlockchainHash())) {
+        // Verify hash and, once anchored, the Merkle inclusion proof
+        if (!certificateAnchorService.verify(certificate)) {
             throw new BadRequestException("Certificate verification failed - invalid blockchain hash");
         }
 
@@ -153,60 +433,102 @@ public class CertificateService {
             certificateRepository.save(certificate);
         }
 
-        return convertToCertificateResponse(certificate);
+        verificationEvents.publish(certificate.getId(), certificate.getIssuer().getUsername(),
+                VerificationEventPipeline.CHANNEL_CERTIFICATE_ID);
+        return withToken(convertToCertificateResponse(certificate));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Public verification by verification ID. Served from {@link VerificationCache} when
+     * possible; a miss loads the certificate with holder, issuer and skills in one query.
+     * Runs without a surrounding transaction so that cache hits never touch a connection.
+     */
     public CertificateResponse verifyCertificateByVerificationId(String verificationId) {
-        Certificate certificate = certificateRepository.findByVerificationId(verificationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Certificate not found or invalid ID"));
+        CertificateResponse snapshot = verificationCache.get(verificationId)
+                .orElseGet(() -> loadVerificationSnapshot(verificationId));
+
+        // Decided by the database, so concurrent and cross-instance verifications count once
+        boolean firstVerification = false;
+        if (!snapshot.isVerifiedBefore()) {
+            firstVerification = certificateRepository.markFirstVerified(snapshot.getId(), LocalDateTime.now()) == 1;
+            verificationCache.replace(verificationId, snapshot, snapshot.toBuilder().verifiedBefore(true).build());
+        }
 
         // Increment view count
-        certificate.incrementViews();
-        certificateRepository.save(certificate);
+        viewCounter.recordView(snapshot.getId());
+        statsCounters.certificateVerified(snapshot.getIssuerName(), firstVerification);
+        verificationEvents.publish(snapshot.getId(), snapshot.getIssuerName(),
+                VerificationEventPipeline.CHANNEL_VERIFICATION_ID);
+
+        CertificateResponse.CertificateResponseBuilder response = snapshot.toBuilder()
+                .views(snapshot.getViews() + (int) viewCounter.getPendingViews(snapshot.getId()));
+        // A revocation made on this instance is visible before the cached snapshot expires
+        if (revocationRegistry.isRevoked(snapshot.getSerialNumber())) {
+            response.status(CertificateStatus.REVOKED);
+        }
+        return response.build();
+    }
+
+    private CertificateResponse loadVerificationSnapshot(String verificationId) {
+        Certificate certificate = certificateRepository.findWithDetailsByVerificationId(verificationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Certificate not found or invalid ID"));
 
-        // Verify blockchain hash
-        if (!blockchainUtil.verifyBlockchainHash(certificate.getBlockchainHash())) {
+        // Verify hash and, once anchored, the Merkle inclusion proof
+        if (!certificateAnchorService.verify(certificate)) {
             throw new BadRequestException("Certificate verification failed - invalid blockchain hash");
         }
 
         // Check if expired
-        if (certificate.isExpired()) {
+        if (certificate.isExpired() && certificate.getStatus() == CertificateStatus.ACTIVE) {
             certificate.setStatus(CertificateStatus.EXPIRED);
-            certificateRepository.save(certificate);
+            certificateRepository.updateStatus(certificate.getId(), CertificateStatus.EXPIRED);
         }
 
-        return convertToCertificateResponse(certificate);
+        // Snapshots hold the persisted count; pending views are merged per request
+        CertificateResponse snapshot = withToken(convertToCertificateResponse(certificate)).toBuilder()
+                .views(certificate.getViews())
+                .verifiedBefore(certificate.getFirstVerifiedAt() != null)
+                .build();
+        verificationCache.put(verificationId, snapshot);
+        return snapshot;
     }
 
-    private Set<Skill> getOrCreateSkills(Set<String> skillNames) {
-        Set<Skill> skills = new HashSet<>();
-        for (String skillName : skillNames) {
-            Skill skill = skillRepository.findByName(skillName)
-                    .orElseGet(() -> {
-                        Skill newSkill = Skill.builder()
-                                .name(skillName)
-                                .endorsements(0)
-                                .build();
-                        return skillRepository.save(newSkill);
-                    });
-            skills.add(skill);
-        }
-        return skills;
+    private KeysetCursor cursorOf(CertificateListView certificate) {
+        return new KeysetCursor(certificate.getCreatedAt(), certificate.getId());
+    }
+
+    private List<CertificateResponse> toResponses(List<CertificateListView> rows) {
+        Map<UUID, Set<String>> skills = skillNamesOf(rows);
+        return rows.stream()
+                .map(row -> convertToCertificateResponse(row, skills))
+                .collect(Collectors.toList());
+    }
+
+    private Map<UUID, Set<String>> skillNamesOf(List<CertificateListView> rows) {
+        List<UUID> ids = rows.stream().map(CertificateListView::getId).toList();
+        return SkillNameView.load(ids, certificateRepository::findSkillNames);
+    }
+
+    private CertificateResponse withToken(CertificateResponse response) {
+        return response.toBuilder()
+                .verificationToken(certificateTokenProvider.generateToken(response))
+                .build();
     }
 
     private CertificateResponse convertToCertificateResponse(Certificate certificate) {
         return CertificateResponse.builder()
                 .id(certificate.getId())
+                .serialNumber(certificate.getSerialNumber())
                 .name(certificate.getName())
                 .description(certificate.getDescription())
                 .issuedDate(certificate.getIssuedDate())
                 .expiryDate(certificate.getExpiryDate())
                 .status(certificate.getStatus())
                 .blockchainHash(certificate.getBlockchainHash())
-                .qrCode(certificate.getQrCode())
+                .anchored(certificate.getAnchorBatchId() != null)
+                .qrCode(qrCodeService.qrCodeUrl(certificate.getVerificationId()))
                 .verificationId(certificate.getVerificationId())
-                .views(certificate.getViews())
+                .views(certificate.getViews() + (int) viewCounter.getPendingViews(certificate.getId()))
                 .holderName(certificate.getHolder().getUsername())
                 .holderUsername(certificate.getHolder().getUsername())
                 .issuerName(certificate.getIssuer().getUsername())
@@ -216,4 +538,27 @@ public class CertificateService {
                         .collect(Collectors.toSet()))
                 .build();
     }
+
+    private CertificateResponse convertToCertificateResponse(CertificateListView certificate,
+            Map<UUID, Set<String>> skills) {
+        return CertificateResponse.builder()
+                .id(certificate.getId())
+                .serialNumber(certificate.getSerialNumber())
+                .name(certificate.getName())
+                .description(certificate.getDescription())
+                .issuedDate(certificate.getIssuedDate())
+                .expiryDate(certificate.getExpiryDate())
+                .status(certificate.getStatus())
+                .blockchainHash(certificate.getBlockchainHash())
+                .anchored(certificate.getAnchorBatchId() != null)
+                .qrCode(qrCodeService.qrCodeUrl(certificate.getVerificationId()))
+                .verificationId(certificate.getVerificationId())
+                .views(certificate.getViews() + (int) viewCounter.getPendingViews(certificate.getId()))
+                .holderName(certificate.getHolderUsername())
+                .holderUsername(certificate.getHolderUsername())
+                .issuerName(certificate.getIssuerUsername())
+                .issuerOrganization(certificate.getIssuerOrganization())
+                .skills(skills.getOrDefault(certificate.getId(), Set.of()))
+                .build();
+    }
 }
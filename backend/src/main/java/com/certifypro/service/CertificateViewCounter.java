@@ -0,0 +1,116 @@
+package com.certifypro.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects certificate view increments in memory and periodically writes them to the
+ * database in one batched UPDATE, so bursts of views on a single certificate do not
+ * contend on its row. Counts are approximate: a crash loses at most one flush interval.
+ * Each flush is a single transaction, so a failed flush can be re-queued whole.
+ */
+@Component
+@Slf4j
+public class CertificateViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE certificates SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VerificationCache verificationCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<UUID, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public CertificateViewCounter(JdbcTemplate jdbcTemplate, VerificationCache verificationCache,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.verificationCache = verificationCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Record a single view of a certificate
+     *
+     * @param certificateId The certificate ID
+     */
+    public void recordView(UUID certificateId) {
+        addViews(certificateId, 1);
+    }
+
+    /**
+     * Get the number of views recorded but not yet written to the database
+     *
+     * @param certificateId The certificate ID
+     * @return Pending view count
+     */
+    public long getPendingViews(UUID certificateId) {
+        LongAdder adder = pendingViews.get(certificateId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-counter.flush-interval-ms:10000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        Set<UUID> flushed = new HashSet<>();
+
+        pendingViews.forEach((certificateId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[] { delta, certificateId });
+                flushed.add(certificateId);
+            } else if (pendingViews.remove(certificateId, adder)) {
+                // Catch increments that raced with the removal
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    addViews(certificateId, late);
+                }
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Stable row order keeps concurrent flushes from different instances deadlock-free
+        batch.sort(Comparator.comparing(row -> (UUID) row[1]));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (DataAccessException | TransactionException e) {
+            // Nothing was applied, so every row is re-queued
+            log.error("Failed to flush {} certificate view counts, re-queueing", batch.size(), e);
+            batch.forEach(row -> addViews((UUID) row[1], (Long) row[0]));
+            return;
+        }
+
+        // Cached snapshots carry the persisted count, which has just moved
+        verificationCache.evictCertificates(flushed);
+        log.debug("Flushed view counts for {} certificates", batch.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void addViews(UUID certificateId, long views) {
+        pendingViews.computeIfAbsent(certificateId, id -> new LongAdder()).add(views);
+    }
+}
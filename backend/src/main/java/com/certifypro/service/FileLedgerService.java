@@ -0,0 +1,109 @@
+package com.certifypro.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Default ledger: an append-only local file with one line per root. Each entry carries
+ * the hash of the previous one, so rewriting or removing a past entry breaks the chain.
+ * Every commit is forced to disk before it is acknowledged.
+ */
+@Service
+@ConditionalOnProperty(name = "app.anchoring.ledger", havingValue = "file", matchIfMissing = true)
+@Slf4j
+public class FileLedgerService implements LedgerService {
+
+    private static final String GENESIS = "0".repeat(64);
+
+    @Value("${app.anchoring.file.path:./data/anchor-ledger.log}")
+    private Path path;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+    private long sequence;
+    private String previousEntryHash = GENESIS;
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        String[] fields = line.split("\t");
+                        sequence = Long.parseLong(fields[0]);
+                        previousEntryHash = fields[fields.length - 1];
+                    }
+                }
+            }
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        log.info("Anchoring to ledger file {} at entry {}", path.toAbsolutePath(), sequence);
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public String commit(String merkleRoot, int leafCount) {
+        // A lock rather than synchronized: a virtual thread blocked in fsync must not pin its carrier
+        lock.lock();
+        try {
+            long next = sequence + 1;
+            String entry = next + "\t" + Instant.now() + "\t" + merkleRoot + "\t" + leafCount + "\t" + previousEntryHash;
+            String entryHash = sha256(entry);
+            try {
+                channel.write(ByteBuffer.wrap((entry + "\t" + entryHash + "\n").getBytes(StandardCharsets.UTF_8)));
+                channel.force(true);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append to ledger file " + path, e);
+            }
+            sequence = next;
+            previousEntryHash = entryHash;
+            return "file:" + next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.certifypro.service;
+
+/**
+ * Backend that Merkle roots of certificate batches are committed to. Only roots are
+ * ever written, so the ledger grows with the number of batches, not certificates.
+ */
+public interface LedgerService {
+
+    /**
+     * Name stored with each batch to record where its root was committed
+     *
+     * @return Backend name
+     */
+    String getName();
+
+    /**
+     * Durably commit a Merkle root
+     *
+     * @param merkleRoot Root hash in {@code 0x}-prefixed hex
+     * @param leafCount  Number of certificates under the root
+     * @return Backend-specific reference locating the committed entry
+     */
+    String commit(String merkleRoot, int leafCount);
+}
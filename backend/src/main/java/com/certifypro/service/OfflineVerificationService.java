@@ -0,0 +1,93 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.response.CertificateTokenKeyResponse;
+import com.certifypro.dto.response.OfflineVerificationResponse;
+import com.certifypro.dto.response.RevocationDeltaResponse;
+import com.certifypro.dto.response.RevocationSnapshotResponse;
+import com.certifypro.entity.CertificateStatus;
+import com.certifypro.exception.BadRequestException;
+import com.certifypro.security.CertificateTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Verifies signed certificate tokens entirely in memory: signature against the token
+ * key, expiry from the claims, and revocation against {@link RevocationRegistry}.
+ */
+@Service
+@RequiredArgsConstructor
+public class OfflineVerificationService {
+
+    private final CertificateTokenProvider certificateTokenProvider;
+    private final RevocationRegistry revocationRegistry;
+
+    /**
+     * Verify a certificate token without touching the database
+     *
+     * @param token Compact signed token from a QR code or verification URL
+     * @return The certificate as signed, with its current status
+     */
+    public OfflineVerificationResponse verify(String token) {
+        Claims claims;
+        UUID certificateId;
+        Long serialNumber;
+        try {
+            claims = certificateTokenProvider.parseToken(token);
+            certificateId = UUID.fromString(claims.get("cid", String.class));
+            serialNumber = claims.get("sn", Long.class);
+        } catch (JwtException | IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("Certificate verification failed - invalid token");
+        }
+
+        Date expiration = claims.getExpiration();
+        CertificateStatus status = CertificateStatus.ACTIVE;
+        if (revocationRegistry.isRevoked(serialNumber)) {
+            status = CertificateStatus.REVOKED;
+        } else if (expiration != null && expiration.before(new Date())) {
+            status = CertificateStatus.EXPIRED;
+        }
+
+        return OfflineVerificationResponse.builder()
+                .id(certificateId)
+                .verificationId(claims.getSubject())
+                .name(claims.get("name", String.class))
+                .holderUsername(claims.get("holder", String.class))
+                .issuerName(claims.get("issuer", String.class))
+                .issuedDate(LocalDate.parse(claims.get("issued", String.class)))
+                .expiryDate(expiration == null ? null
+                        : LocalDate.ofInstant(expiration.toInstant(), ZoneOffset.UTC).minusDays(1))
+                .status(status)
+                .keyId(certificateTokenProvider.getKeyId())
+                .build();
+    }
+
+    public RevocationSnapshotResponse getRevocationSnapshot() {
+        return revocationRegistry.getSnapshot();
+    }
+
+    public RevocationDeltaResponse getRevocationDelta(String epoch, long since) {
+        return revocationRegistry.getDelta(epoch, since);
+    }
+
+    /**
+     * ETag of the current revocation snapshot; changes whenever a certificate is revoked
+     */
+    public String revocationETag() {
+        return "\"" + revocationRegistry.getEpoch() + "-" + revocationRegistry.getVersion() + "\"";
+    }
+
+    public CertificateTokenKeyResponse getPublicKey() {
+        return CertificateTokenKeyResponse.builder()
+                .algorithm(CertificateTokenProvider.ALGORITHM)
+                .keyId(certificateTokenProvider.getKeyId())
+                .publicKey(certificateTokenProvider.getEncodedPublicKey())
+                .build();
+    }
+}
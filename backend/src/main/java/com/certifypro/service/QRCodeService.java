@@ -1,5 +1,9 @@
 package com.certifypro.service;
 
+import com.certifypro.exception.BadRequestException;
+import com.certifypro.security.CertificateTokenProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.zxing.BarcodeFormat;
 import com.google.zxing.EncodeHintType;
 import com.google.zxing.WriterException;
@@ -7,51 +11,172 @@ import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
 import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Base64;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
 import java.util.Map;
 
+/**
+ * Renders certificate QR codes on demand. Nothing is stored with the certificate: the
+ * image is a pure function of the verification ID and the render parameters, so encoded
+ * images are kept in a byte-bounded LRU and rebuilt after eviction.
+ */
 @Service
 @Slf4j
 public class QRCodeService {
 
+    public static final String CACHE_NAME = "certificate-qr-code";
+
+    public static final int DEFAULT_SIZE = 300;
+    public static final int DEFAULT_MARGIN = 1;
+
+    private static final int MIN_SIZE = 64;
+    private static final int MAX_SIZE = 1024;
+    private static final int MAX_MARGIN = 16;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        PNG("image/png"),
+        SVG("image/svg+xml");
+
+        private final String contentType;
+    }
+
     @Value("${app.frontend.url:http://localhost:5173}")
     private String frontendUrl;
 
+    @Value("${app.public-api-url:http://localhost:8080}")
+    private String publicApiUrl;
+
+    private final Cache<String, byte[]> images;
+
+    private final CertificateTokenProvider certificateTokenProvider;
+
+    public QRCodeService(@Value("${app.qr-code.cache-max-size:16MB}") DataSize cacheMaxSize,
+            MeterRegistry meterRegistry, CertificateTokenProvider certificateTokenProvider) {
+        this.certificateTokenProvider = certificateTokenProvider;
+        this.images = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxSize.toBytes())
+                .weigher((String key, byte[] image) -> image.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, images, CACHE_NAME);
+    }
+
     /**
-     * Generate QR code as Base64 string for a certificate verification URL
+     * Resolve a format name from a request parameter
      *
-     * @param verificationId The unique verification ID of the certificate
-     * @return Base64 encoded QR code image
+     * @param format Format name, case-insensitive
+     * @return The image format
      */
-    public String generateQRCodeBase64(String verificationId) {
+    public Format resolveFormat(String format) {
         try {
-            String verificationUrl = frontendUrl + "/verify/" + verificationId;
+            return Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported QR code format: " + format);
+        }
+    }
 
-            Map<EncodeHintType, Object> hints = new HashMap<>();
-            hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.H);
-            hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
-            hints.put(EncodeHintType.MARGIN, 1);
+    /**
+     * Validate render parameters before any work is done for them
+     *
+     * @param size   Image width and height in pixels
+     * @param margin Quiet zone in modules
+     */
+    public void validate(int size, int margin) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new BadRequestException("QR code size must be between " + MIN_SIZE + " and " + MAX_SIZE);
+        }
+        if (margin < 0 || margin > MAX_MARGIN) {
+            throw new BadRequestException("QR code margin must be between 0 and " + MAX_MARGIN);
+        }
+    }
 
-            QRCodeWriter qrCodeWriter = new QRCodeWriter();
-            BitMatrix bitMatrix = qrCodeWriter.encode(verificationUrl, BarcodeFormat.QR_CODE, 300, 300, hints);
+    /**
+     * Get the encoded QR code image for a certificate verification URL, rendering it on
+     * first use. The URL carries the certificate's signed token so scanners can verify
+     * it offline.
+     *
+     * @param verificationId The unique verification ID of the certificate
+     * @param token          Signed certificate token
+     * @param size           Image width and height in pixels (SVG: intrinsic size)
+     * @param margin         Quiet zone in modules
+     * @param format         Image format
+     * @return Encoded image bytes
+     */
+    public byte[] render(String verificationId, String token, int size, int margin, Format format) {
+        validate(size, margin);
+        return images.get(qrCodeETag(verificationId, token, size, margin, format), key -> {
+            String contents = verificationUrl(verificationId) + "?t=" + token;
+            try {
+                return format == Format.SVG
+                        ? renderSvg(contents, size, margin)
+                        : renderPng(contents, size, margin);
+            } catch (WriterException e) {
+                throw new IllegalStateException("Failed to generate QR code for " + verificationId, e);
+            }
+        });
+    }
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
+    /**
+     * Strong ETag for a rendered QR code, derived from everything that determines the
+     * image so it changes whenever the image would. Also keys the image cache.
+     *
+     * @param verificationId The unique verification ID of the certificate
+     * @param token          Signed certificate token embedded in the image
+     * @param size           Image size in pixels
+     * @param margin         Quiet zone in modules
+     * @param format         Image format
+     * @return Quoted ETag value
+     */
+    public String qrCodeETag(String verificationId, String token, int size, int margin, Format format) {
+        String input = verificationUrl(verificationId) + "|" + imageVersion() + "|" + token + "|" + size
+                + "|" + margin + "|" + format + "|H";
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 
-            byte[] qrCodeBytes = outputStream.toByteArray();
-            return "data:image/png;base64," + Base64.getEncoder().encodeToString(qrCodeBytes);
+    /**
+     * Absolute URL of the QR code image endpoint for a certificate. The URL names the
+     * current image version, so it changes whenever the encoded token would.
+     *
+     * @param verificationId The unique verification ID of the certificate
+     * @return URL usable directly as an image source
+     */
+    public String qrCodeUrl(String verificationId) {
+        return publicApiUrl + "/api/certificates/" + verificationId + "/qr.png?v=" + imageVersion();
+    }
 
-        } catch (WriterException | IOException e) {
-            log.error("Failed to generate QR code for verification ID: {}", verificationId, e);
-            return null;
-        }
+    /**
+     * Version of the rendered images: the signing key and token format the embedded
+     * tokens are made with. Only a URL naming the current version may be cached forever.
+     *
+     * @return URL-safe version string
+     */
+    public String imageVersion() {
+        return certificateTokenProvider.getKeyId() + "." + CertificateTokenProvider.TOKEN_VERSION;
     }
 
     /**
@@ -69,4 +194,64 @@ public class QRCodeService {
         }
         return verificationId.toString();
     }
+
+    private byte[] renderPng(String contents, int size, int margin) throws WriterException {
+        Map<EncodeHintType, Object> hints = encodeHints();
+        hints.put(EncodeHintType.MARGIN, margin);
+
+        BitMatrix bitMatrix = new QRCodeWriter().encode(contents, BarcodeFormat.QR_CODE, size, size, hints);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Writes the module matrix straight out as one SVG path, one subpath per horizontal
+     * run of dark modules, in module units scaled by the viewBox. No raster is allocated.
+     */
+    private byte[] renderSvg(String contents, int size, int margin) throws WriterException {
+        ByteMatrix modules = Encoder.encode(contents, ErrorCorrectionLevel.H, encodeHints()).getMatrix();
+        int dimension = modules.getWidth() + 2 * margin;
+
+        StringBuilder svg = new StringBuilder(4096)
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(size)
+                .append("\" height=\"").append(size)
+                .append("\" viewBox=\"0 0 ").append(dimension).append(' ').append(dimension)
+                .append("\" shape-rendering=\"crispEdges\">")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>")
+                .append("<path fill=\"#000\" d=\"");
+        for (int y = 0; y < modules.getHeight(); y++) {
+            int x = 0;
+            while (x < modules.getWidth()) {
+                if (modules.get(x, y) != 1) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < modules.getWidth() && modules.get(x, y) == 1) {
+                    x++;
+                }
+                svg.append('M').append(start + margin).append(',').append(y + margin)
+                        .append('h').append(x - start).append("v1h-").append(x - start).append('z');
+            }
+        }
+        svg.append("\"/></svg>");
+        return svg.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Map<EncodeHintType, Object> encodeHints() {
+        Map<EncodeHintType, Object> hints = new HashMap<>();
+        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.H);
+        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
+        return hints;
+    }
+
+    private String verificationUrl(String verificationId) {
+        return frontendUrl + "/verify/" + verificationId;
+    }
 }
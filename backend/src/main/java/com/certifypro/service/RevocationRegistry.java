@@ -0,0 +1,165 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.response.RevocationDeltaResponse;
+import com.certifypro.dto.response.RevocationSnapshotResponse;
+import com.certifypro.entity.CertificateStatus;
+import com.certifypro.repository.CertificateRepository;
+import com.certifypro.util.Transactions;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory revocation bitmap indexed by certificate serial number: bit {@code n} is set
+ * when certificate {@code n} is revoked, so a lookup is one array read and needs no
+ * database query. Loaded at startup, updated on revoke, and re-synced periodically to
+ * pick up revocations made by other instances.
+ *
+ * Every newly set bit advances a version and is kept in a bounded delta log, so external
+ * verifiers can download a snapshot once and then poll for deltas. Versions are local to
+ * this process; the epoch changes on restart and tells clients to fetch a new snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationRegistry {
+
+    public static final String ENCODING = "base64 of little-endian 64-bit words; bit n of the bitmap is serial n";
+
+    private final CertificateRepository certificateRepository;
+
+    @Value("${app.revocation.delta-log-size:10000}")
+    private int deltaLogSize;
+
+    private final String epoch = UUID.randomUUID().toString();
+
+    // Readers only dereference the current array; writers are serialized and replace it to grow
+    private volatile AtomicLongArray words = new AtomicLongArray(0);
+    private volatile long version;
+    private final Deque<long[]> deltas = new ArrayDeque<>(); // (version, serial), oldest first
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.revocation.refresh-interval-ms:60000}",
+            initialDelayString = "${app.revocation.refresh-interval-ms:60000}")
+    public void refresh() {
+        List<Long> serials = certificateRepository.findSerialNumbersByStatus(CertificateStatus.REVOKED);
+        int added = 0;
+        for (Long serial : serials) {
+            if (serial != null && set(serial)) {
+                added++;
+            }
+        }
+        if (added > 0) {
+            log.debug("Revocation bitmap picked up {} revocations, now at version {}", added, version);
+        }
+    }
+
+    /**
+     * Check whether a certificate is revoked, without a database query
+     *
+     * @param serialNumber The certificate serial number
+     * @return Whether the certificate is known to be revoked
+     */
+    public boolean isRevoked(Long serialNumber) {
+        if (serialNumber == null || serialNumber < 0) {
+            return false;
+        }
+        AtomicLongArray current = words;
+        int index = (int) (serialNumber >>> 6);
+        return index < current.length() && (current.get(index) & (1L << serialNumber)) != 0;
+    }
+
+    /**
+     * Record a revocation once the current transaction, if any, commits
+     *
+     * @param serialNumber The certificate serial number
+     */
+    public void markRevoked(Long serialNumber) {
+        if (serialNumber == null) {
+            return;
+        }
+        Transactions.afterCommit(() -> set(serialNumber));
+    }
+
+    public synchronized RevocationSnapshotResponse getSnapshot() {
+        AtomicLongArray current = words;
+        ByteBuffer bitmap = ByteBuffer.allocate(current.length() * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < current.length(); i++) {
+            bitmap.putLong(current.get(i));
+        }
+        return RevocationSnapshotResponse.builder()
+                .epoch(epoch)
+                .version(version)
+                .encoding(ENCODING)
+                .bitmap(Base64.getEncoder().encodeToString(bitmap.array()))
+                .build();
+    }
+
+    /**
+     * Revocations since a version this client already has
+     *
+     * @param epoch The epoch the client's version belongs to
+     * @param since The client's version
+     * @return Newly revoked serials, or a request to fetch a snapshot if they are no longer retained
+     */
+    public synchronized RevocationDeltaResponse getDelta(String epoch, long since) {
+        RevocationDeltaResponse.RevocationDeltaResponseBuilder delta = RevocationDeltaResponse.builder()
+                .epoch(this.epoch)
+                .version(version);
+        boolean retained = deltas.isEmpty() ? since == version : deltas.peekFirst()[0] <= since + 1;
+        if (!this.epoch.equals(epoch) || since > version || !retained) {
+            return delta.snapshotRequired(true).revokedSerials(List.of()).build();
+        }
+        List<Long> serials = new ArrayList<>();
+        for (long[] entry : deltas) {
+            if (entry[0] > since) {
+                serials.add(entry[1]);
+            }
+        }
+        return delta.snapshotRequired(false).revokedSerials(serials).build();
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private synchronized boolean set(long serialNumber) {
+        int index = (int) (serialNumber >>> 6);
+        AtomicLongArray current = words;
+        if (index >= current.length()) {
+            AtomicLongArray grown = new AtomicLongArray(Math.max(index + 1, current.length() * 2));
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            words = grown;
+            current = grown;
+        }
+        long mask = 1L << serialNumber;
+        if ((current.getAndAccumulate(index, mask, (word, bit) -> word | bit) & mask) != 0) {
+            return false;
+        }
+        version++;
+        deltas.addLast(new long[] { version, serialNumber });
+        while (deltas.size() > deltaLogSize) {
+            deltas.removeFirst();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,257 @@
+package com.certifypro.service;
+
+import com.certifypro.config.DatabasePlatform;
+import com.certifypro.dto.response.CertificateResponse;
+import com.certifypro.dto.response.CertificateSearchResult;
+import com.certifypro.dto.response.CursorPage;
+import com.certifypro.dto.response.ProfileSearchResult;
+import com.certifypro.entity.ProfileVisibility;
+import com.certifypro.entity.UserRole;
+import com.certifypro.exception.BadRequestException;
+import com.certifypro.repository.CertificateRepository;
+import com.certifypro.repository.UserRepository;
+import com.certifypro.repository.projection.ProfileListView;
+import com.certifypro.repository.projection.SkillNameView;
+import com.certifypro.util.KeysetCursor;
+import com.certifypro.util.OffsetPageRequest;
+import com.certifypro.util.SearchHighlighter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked certificate and profile search for employers. On PostgreSQL, matches come from the
+ * generated {@code search_vector} columns (GIN) or trigram similarity on the name/username,
+ * ranked by both; see V4__search.sql. Other databases fall back to a substring match
+ * ordered by recency. Certificates held by private or disabled profiles, and private or
+ * disabled profiles themselves, are never returned.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    static final int MAX_QUERY_LENGTH = 200;
+    // Relevance pages are read with OFFSET, so paging stops here rather than scanning ever deeper
+    static final int MAX_OFFSET = 1000;
+    private static final int EXCERPT_LENGTH = 160;
+
+    private static final String HEADLINE_OPTIONS = "StartSel=" + SearchHighlighter.START_SEL
+            + ", StopSel=" + SearchHighlighter.STOP_SEL + ", MaxWords=25, MinWords=10, MaxFragments=2";
+
+    // Headlines are computed in the outer query, so only for the rows of the page
+    private static final String CERTIFICATE_SEARCH = """
+            SELECT r.id, r.score,
+                   ts_headline('english', concat_ws(' - ', c.name, c.description),
+                               websearch_to_tsquery('english', :text), :options) AS headline
+            FROM (SELECT c.id, ts_rank_cd(c.search_vector, q) + similarity(c.name, :text) AS score
+                  FROM certificates c
+                  JOIN users h ON h.id = c.holder_id
+                  CROSS JOIN websearch_to_tsquery('english', :text) q
+                  WHERE (c.search_vector @@ q OR c.name % :text)
+                    AND h.enabled
+                    AND (h.profile_visibility IS NULL OR h.profile_visibility <> :hidden)
+                  ORDER BY score DESC, c.id
+                  LIMIT :limit OFFSET :offset) r
+            JOIN certificates c ON c.id = r.id
+            ORDER BY r.score DESC, r.id
+            """;
+
+    private static final String PROFILE_SEARCH = """
+            SELECT r.*,
+                   ts_headline('english', concat_ws(' - ', r.organization, r.bio),
+                               websearch_to_tsquery('english', :text), :options) AS headline
+            FROM (SELECT u.id, u.username, u.avatar, u.organization, u.location, u.bio,
+                         ts_rank_cd(u.search_vector, q) + similarity(u.username, :text) AS score
+                  FROM users u
+                  CROSS JOIN websearch_to_tsquery('english', :text) q
+                  WHERE (u.search_vector @@ q OR u.username % :text)
+                    AND u.role = :role AND u.enabled
+                    AND (u.profile_visibility IS NULL OR u.profile_visibility <> :hidden)
+                  ORDER BY score DESC, u.id
+                  LIMIT :limit OFFSET :offset) r
+            ORDER BY r.score DESC, r.id
+            """;
+
+    private final CertificateRepository certificateRepository;
+    private final UserRepository userRepository;
+    private final CertificateService certificateService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * Search certificates by name and description, best matches first
+     *
+     * @param query  Search text; on PostgreSQL, web search syntax ("quoted phrases", -excluded)
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit  Page size, clamped like the other list endpoints
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CertificateSearchResult> searchCertificates(String query, String cursor, Integer limit) {
+        String text = normalizeQuery(query);
+        int offset = decodeOffset(cursor);
+        int pageSize = KeysetCursor.clampLimit(limit);
+
+        List<UUID> ids = new ArrayList<>();
+        Map<UUID, Double> scores = new HashMap<>();
+        Map<UUID, String> highlights = new HashMap<>();
+        if (databasePlatform.isPostgres()) {
+            jdbcTemplate.query(CERTIFICATE_SEARCH, searchParameters(text, pageSize, offset), rs -> {
+                UUID id = rs.getObject("id", UUID.class);
+                ids.add(id);
+                scores.put(id, rs.getDouble("score"));
+                highlights.put(id, SearchHighlighter.fromHeadline(rs.getString("headline")));
+            });
+        } else {
+            ids.addAll(certificateRepository.searchIds(likePattern(text), ProfileVisibility.PRIVATE,
+                    new OffsetPageRequest(offset, pageSize + 1)));
+        }
+
+        boolean hasMore = ids.size() > pageSize;
+        List<UUID> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+        List<CertificateSearchResult> items = new ArrayList<>();
+        for (CertificateResponse certificate : certificateService.getCertificates(pageIds)) {
+            String highlight = highlights.containsKey(certificate.getId())
+                    ? highlights.get(certificate.getId())
+                    : SearchHighlighter.highlight(joinText(certificate.getName(), certificate.getDescription()),
+                            text, EXCERPT_LENGTH);
+            items.add(CertificateSearchResult.builder()
+                    .certificate(certificate)
+                    .score(scores.getOrDefault(certificate.getId(), 0.0))
+                    .highlight(highlight)
+                    .build());
+        }
+        return page(items, hasMore, offset + pageSize);
+    }
+
+    /**
+     * Search public individual profiles by username, organization and bio, best matches first
+     *
+     * @param query  Search text; on PostgreSQL, web search syntax ("quoted phrases", -excluded)
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit  Page size, clamped like the other list endpoints
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProfileSearchResult> searchProfiles(String query, String cursor, Integer limit) {
+        String text = normalizeQuery(query);
+        int offset = decodeOffset(cursor);
+        int pageSize = KeysetCursor.clampLimit(limit);
+
+        List<ProfileSearchResult> rows;
+        if (databasePlatform.isPostgres()) {
+            MapSqlParameterSource parameters = searchParameters(text, pageSize, offset)
+                    .addValue("role", UserRole.INDIVIDUAL.name());
+            rows = jdbcTemplate.query(PROFILE_SEARCH, parameters, (rs, rowNum) -> ProfileSearchResult.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .username(rs.getString("username"))
+                    .avatar(rs.getString("avatar"))
+                    .organization(rs.getString("organization"))
+                    .location(rs.getString("location"))
+                    .score(rs.getDouble("score"))
+                    .highlight(SearchHighlighter.fromHeadline(rs.getString("headline")))
+                    .build());
+        } else {
+            rows = userRepository.searchProfiles(likePattern(text), UserRole.INDIVIDUAL, ProfileVisibility.PRIVATE,
+                    new OffsetPageRequest(offset, pageSize + 1)).stream()
+                    .map(profile -> toProfileResult(profile, text))
+                    .collect(Collectors.toList());
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ProfileSearchResult> items = hasMore ? rows.subList(0, pageSize) : rows;
+        Map<UUID, Set<String>> skills = SkillNameView.load(
+                items.stream().map(ProfileSearchResult::getId).toList(), userRepository::findSkillNames);
+        items.forEach(profile -> profile.setSkills(skills.getOrDefault(profile.getId(), Set.of())));
+        return page(items, hasMore, offset + pageSize);
+    }
+
+    private ProfileSearchResult toProfileResult(ProfileListView profile, String text) {
+        return ProfileSearchResult.builder()
+                .id(profile.getId())
+                .username(profile.getUsername())
+                .avatar(profile.getAvatar())
+                .organization(profile.getOrganization())
+                .location(profile.getLocation())
+                .highlight(SearchHighlighter.highlight(joinText(profile.getOrganization(), profile.getBio()),
+                        text, EXCERPT_LENGTH))
+                .build();
+    }
+
+    private MapSqlParameterSource searchParameters(String text, int pageSize, int offset) {
+        return new MapSqlParameterSource()
+                .addValue("text", text)
+                .addValue("options", HEADLINE_OPTIONS)
+                .addValue("hidden", ProfileVisibility.PRIVATE.name())
+                .addValue("limit", pageSize + 1)
+                .addValue("offset", offset);
+    }
+
+    private static <T> CursorPage<T> page(List<T> items, boolean hasMore, int nextOffset) {
+        return CursorPage.<T>builder()
+                .items(items)
+                .nextCursor(hasMore && nextOffset <= MAX_OFFSET ? encodeOffset(nextOffset) : null)
+                .build();
+    }
+
+    private static String normalizeQuery(String query) {
+        String text = query == null ? "" : query.trim();
+        if (text.isEmpty()) {
+            throw new BadRequestException("Search query is required");
+        }
+        if (text.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        return text;
+    }
+
+    private static String likePattern(String text) {
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static String joinText(String first, String second) {
+        if (first == null || first.isEmpty()) {
+            return second;
+        }
+        return second == null || second.isEmpty() ? first : first + " - " + second;
+    }
+
+    private static String encodeOffset(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("offset|" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith("offset|")) {
+                throw new IllegalArgumentException(raw);
+            }
+            int offset = Integer.parseInt(raw.substring("offset|".length()));
+            if (offset < 0 || offset > MAX_OFFSET) {
+                throw new IllegalArgumentException(raw);
+            }
+            return offset;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
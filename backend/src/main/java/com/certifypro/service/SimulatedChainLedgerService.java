@@ -0,0 +1,45 @@
+package com.certifypro.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Stand-in for a blockchain client: each root becomes a "transaction" whose hash links
+ * to the previous one, as a chain would return. Nothing is persisted, so this is only
+ * for development until a real chain backend implements {@link LedgerService}.
+ */
+@Service
+@ConditionalOnProperty(name = "app.anchoring.ledger", havingValue = "simulated-chain")
+@Slf4j
+public class SimulatedChainLedgerService implements LedgerService {
+
+    private String previousTransaction = "0x" + "0".repeat(64);
+
+    public SimulatedChainLedgerService() {
+        log.warn("Anchoring to a simulated chain; committed roots are not durable");
+    }
+
+    @Override
+    public String getName() {
+        return "simulated-chain";
+    }
+
+    @Override
+    public synchronized String commit(String merkleRoot, int leafCount) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] transaction = digest.digest((previousTransaction + merkleRoot + leafCount)
+                    .getBytes(StandardCharsets.UTF_8));
+            previousTransaction = "0x" + HexFormat.of().formatHex(transaction);
+            return previousTransaction;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
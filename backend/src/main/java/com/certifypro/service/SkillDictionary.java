@@ -0,0 +1,175 @@
+package com.certifypro.service;
+
+import com.certifypro.config.DatabasePlatform;
+import com.certifypro.entity.Skill;
+import com.certifypro.repository.SkillRepository;
+import com.certifypro.util.Transactions;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shared get-or-create for skills by name. Names are matched trimmed and case-insensitively
+ * against an in-memory name to ID map loaded at startup, so known skills need no lookup
+ * by name. Unknown names are inserted together on the caller's connection, where
+ * concurrent inserts of the same name are absorbed by the unique index on
+ * {@code lower(name)}, and the resulting IDs are remembered once the caller commits.
+ * Skills are never deleted, so cached IDs stay valid.
+ */
+@Component
+@Slf4j
+public class SkillDictionary {
+
+    private static final String INSERT_POSTGRES =
+            "INSERT INTO skills (name, endorsements) VALUES (?, 0) ON CONFLICT DO NOTHING";
+    private static final String INSERT_GENERIC = "INSERT INTO skills (name, endorsements) SELECT ?, 0"
+            + " WHERE NOT EXISTS (SELECT 1 FROM skills WHERE lower(name) = ?)";
+
+    private final SkillRepository skillRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final boolean postgres;
+
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+
+    public SkillDictionary(SkillRepository skillRepository, JdbcTemplate jdbcTemplate,
+            DatabasePlatform databasePlatform) {
+        this.skillRepository = skillRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = databasePlatform.isPostgres();
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @PostConstruct
+    void load() {
+        jdbcTemplate.query("SELECT id, name FROM skills",
+                rs -> {
+                    idsByName.putIfAbsent(normalize(rs.getString("name")), rs.getLong("id"));
+                });
+        log.info("Skill dictionary loaded {} skills", idsByName.size());
+    }
+
+    /**
+     * Resolve skill names to managed entities, creating the ones that do not exist yet.
+     * Costs one query when every name is known.
+     *
+     * @param names Skill names as given by the client; blank names are ignored
+     * @return Skills keyed by the given names
+     */
+    public Map<String, Skill> resolve(Collection<String> names) {
+        Map<String, String> keys = new LinkedHashMap<>(); // given name -> normalized key
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                keys.put(name, normalize(name));
+            }
+        }
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<String, Long> ids = new HashMap<>(); // normalized key -> skill ID
+        Map<String, String> missing = new TreeMap<>(); // normalized key -> name to insert
+        keys.forEach((name, key) -> {
+            Long id = idsByName.get(key);
+            if (id != null) {
+                ids.put(key, id);
+            } else {
+                missing.putIfAbsent(key, name.trim());
+            }
+        });
+        if (!missing.isEmpty()) {
+            ids.putAll(create(missing));
+        }
+
+        Map<Long, Skill> byId = skillRepository.findAllById(new HashSet<>(ids.values()))
+                .stream()
+                .collect(Collectors.toMap(Skill::getId, Function.identity()));
+        Map<String, Skill> skills = new HashMap<>();
+        keys.forEach((name, key) -> skills.put(name, byId.get(ids.get(key))));
+        return skills;
+    }
+
+    /**
+     * Resolve skill names to a set of managed entities, creating the ones that do not exist yet
+     */
+    public Set<Skill> resolveAll(Collection<String> names) {
+        return new HashSet<>(resolve(names).values());
+    }
+
+    /**
+     * Look up the IDs of existing skills without touching the database
+     *
+     * @param names Skill names as given by the client
+     * @return Skill IDs keyed by the given names; unknown and blank names are absent
+     */
+    public Map<String, Long> idsOf(Collection<String> names) {
+        Map<String, Long> ids = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                Long id = idsByName.get(normalize(name));
+                if (id != null) {
+                    ids.put(name, id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Insert skills in the caller's transaction, if any, so resolving never needs a second
+     * connection. Names are inserted in key order, which keeps concurrent transactions
+     * inserting overlapping names from deadlocking; one that conflicts waits for the other
+     * to commit and then reads its row.
+     *
+     * @param missing Names to insert keyed by their normalized key
+     * @return IDs of the new or concurrently inserted skills keyed by normalized key
+     */
+    private Map<String, Long> create(Map<String, String> missing) {
+        List<String> batch = new ArrayList<>(missing.values());
+        try {
+            if (postgres) {
+                jdbcTemplate.batchUpdate(INSERT_POSTGRES, batch, batch.size(),
+                        (ps, name) -> ps.setString(1, name));
+            } else {
+                jdbcTemplate.batchUpdate(INSERT_GENERIC, batch, batch.size(), (ps, name) -> {
+                    ps.setString(1, name);
+                    ps.setString(2, normalize(name));
+                });
+            }
+        } catch (DuplicateKeyException e) {
+            // Lost a race without ON CONFLICT support; the winner's rows are read below
+            log.debug("Concurrent skill insert for {}", batch);
+        }
+        // Also picks up names that conflicted with rows inserted elsewhere
+        Map<String, Long> created = new HashMap<>();
+        namedJdbcTemplate.query("SELECT id, name FROM skills WHERE lower(name) IN (:keys)",
+                Map.of("keys", missing.keySet()),
+                rs -> {
+                    created.putIfAbsent(normalize(rs.getString("name")), rs.getLong("id"));
+                });
+        // A rollback would leave cached IDs of rows that do not exist
+        Transactions.afterCommit(() -> created.forEach(idsByName::putIfAbsent));
+        return created;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
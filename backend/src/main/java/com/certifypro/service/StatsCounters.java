@@ -0,0 +1,373 @@
+package com.certifypro.service;
+
+import com.certifypro.config.DatabasePlatform;
+import com.certifypro.entity.UserRole;
+import com.certifypro.util.Transactions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dashboard counters kept incrementally instead of counted on every request. Events are
+ * added to in-memory adders once their transaction commits and written to
+ * {@code stats_counters} in one batch every flush interval, to a running total and to
+ * today's bucket. Reads cost one primary-key range query per scope plus the pending
+ * deltas, however many users and certificates exist.
+ *
+ * Counters are seeded once from the existing tables. Like the view counter, a crash
+ * loses at most one flush interval of events; {@link #reconcile()} periodically brings the
+ * running totals that can be counted from the tables back in line.
+ */
+@Component
+@Slf4j
+public class StatsCounters {
+
+    public static final String GLOBAL = "global";
+
+    public static final String USERS_REGISTERED = "users.registered";
+    public static final String CERTIFICATES_ISSUED = "certificates.issued";
+    public static final String CERTIFICATES_REVOKED = "certificates.revoked";
+    // Certificates verified at least once, counted when their first_verified_at is set
+    public static final String CERTIFICATES_VERIFIED = "certificates.verified";
+    public static final String VERIFICATIONS = "verifications";
+
+    // Bucket date of the running totals
+    static final LocalDate TOTAL = LocalDate.EPOCH;
+
+    private static final String BACKFILL_MARKER = "backfilled";
+
+    private static final String UPSERT_POSTGRES = "INSERT INTO stats_counters (scope, metric, bucket_date, amount)"
+            + " VALUES (?, ?, ?, ?) ON CONFLICT (scope, metric, bucket_date)"
+            + " DO UPDATE SET amount = stats_counters.amount + EXCLUDED.amount";
+    private static final String UPDATE = "UPDATE stats_counters SET amount = amount + ?"
+            + " WHERE scope = ? AND metric = ? AND bucket_date = ?";
+    private static final String INSERT = "INSERT INTO stats_counters (scope, metric, bucket_date, amount)"
+            + " VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean postgres;
+
+    private final Map<Key, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public StatsCounters(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postgres = databasePlatform.isPostgres();
+    }
+
+    public static String issuerScope(String issuerUsername) {
+        return "issuer:" + issuerUsername;
+    }
+
+    public static String roleMetric(UserRole role) {
+        return "users." + role.name();
+    }
+
+    public void userRegistered(UserRole role) {
+        Transactions.afterCommit(() -> {
+            add(GLOBAL, USERS_REGISTERED, 1);
+            add(GLOBAL, roleMetric(role), 1);
+        });
+    }
+
+    public void certificatesIssued(String issuerUsername, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Transactions.afterCommit(() -> {
+            add(GLOBAL, CERTIFICATES_ISSUED, count);
+            add(issuerScope(issuerUsername), CERTIFICATES_ISSUED, count);
+        });
+    }
+
+    public void certificateRevoked(String issuerUsername) {
+        Transactions.afterCommit(() -> {
+            add(GLOBAL, CERTIFICATES_REVOKED, 1);
+            add(issuerScope(issuerUsername), CERTIFICATES_REVOKED, 1);
+        });
+    }
+
+    /**
+     * Record a verification of one of an issuer's certificates
+     *
+     * @param issuerUsername The issuing user's username
+     * @param first          Whether the certificate had never been verified before
+     */
+    public void certificateVerified(String issuerUsername, boolean first) {
+        Transactions.afterCommit(() -> {
+            add(GLOBAL, VERIFICATIONS, 1);
+            add(issuerScope(issuerUsername), VERIFICATIONS, 1);
+            if (first) {
+                add(GLOBAL, CERTIFICATES_VERIFIED, 1);
+                add(issuerScope(issuerUsername), CERTIFICATES_VERIFIED, 1);
+            }
+        });
+    }
+
+    /**
+     * Read a scope's totals and its daily buckets from {@code since} onwards, including
+     * events not yet flushed
+     *
+     * @param scope {@link #GLOBAL} or an {@link #issuerScope(String)}
+     * @param since First day of daily buckets to read
+     */
+    public Snapshot read(String scope, LocalDate since) {
+        Snapshot snapshot = new Snapshot();
+        jdbcTemplate.query("SELECT metric, bucket_date, amount FROM stats_counters"
+                + " WHERE scope = ? AND (bucket_date = ? OR bucket_date >= ?)",
+                rs -> {
+                    snapshot.add(rs.getString("metric"), rs.getDate("bucket_date").toLocalDate(),
+                            rs.getLong("amount"));
+                }, scope, Date.valueOf(TOTAL), Date.valueOf(since));
+        pending.forEach((key, adder) -> {
+            if (key.scope().equals(scope) && (key.day().equals(TOTAL) || !key.day().isBefore(since))) {
+                snapshot.add(key.metric(), key.day(), adder.sum());
+            }
+        });
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.flush-interval-ms:10000}")
+    public void flush() {
+        Map<Key, Long> deltas = new HashMap<>();
+        pending.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(key, delta);
+            } else if (pending.remove(key, adder)) {
+                // Catch increments that raced with the removal
+                long late = adder.sumThenReset();
+                if (late != 0) {
+                    addPending(key, late);
+                }
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(deltas));
+        } catch (DataAccessException e) {
+            log.error("Failed to flush {} stats counters, re-queueing", deltas.size(), e);
+            deltas.forEach(this::addPending);
+            return;
+        }
+        log.debug("Flushed {} stats counters", deltas.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Seed the counters from the existing tables the first time they are used. A marker
+     * row is inserted in the same transaction, so concurrent instances seed only once.
+     */
+    @PostConstruct
+    void backfill() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!claimBackfill()) {
+                return;
+            }
+            Map<Key, Long> counts = countTables();
+            write(counts);
+            log.info("Seeded {} stats counters from existing data", counts.size());
+        });
+    }
+
+    /**
+     * Correct running totals that drifted from the tables they count, such as events lost
+     * in a crash before their flush. Verifications have no table to be counted from and
+     * are left as they are. Reconcilers lock the seed marker row, so instances take turns
+     * and a second one finds nothing left to correct.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.stats.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        flush();
+        Map<Key, Long> corrections = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT amount FROM stats_counters WHERE scope = ? AND metric = ?"
+                    + " AND bucket_date = ? FOR UPDATE", Long.class, GLOBAL, BACKFILL_MARKER, Date.valueOf(TOTAL));
+            Map<Key, Long> expected = new HashMap<>();
+            countTables().forEach((key, amount) -> {
+                if (key.day().equals(TOTAL) && !key.metric().equals(VERIFICATIONS)) {
+                    expected.put(key, amount);
+                }
+            });
+            jdbcTemplate.query("SELECT scope, metric, amount FROM stats_counters WHERE bucket_date = ?"
+                    + " AND (metric LIKE 'users.%' OR metric IN (?, ?, ?))", rs -> {
+                        Key key = new Key(rs.getString("scope"), rs.getString("metric"), TOTAL);
+                        expected.merge(key, -rs.getLong("amount"), Long::sum);
+                    }, Date.valueOf(TOTAL), CERTIFICATES_ISSUED, CERTIFICATES_REVOKED, CERTIFICATES_VERIFIED);
+            expected.forEach((key, difference) -> {
+                // Events committed to the tables but not flushed yet are already on their way
+                LongAdder unflushed = pending.get(key);
+                long correction = difference - (unflushed == null ? 0 : unflushed.sum());
+                if (correction != 0) {
+                    corrections.put(key, correction);
+                }
+            });
+            write(corrections);
+        });
+        if (!corrections.isEmpty()) {
+            log.warn("Corrected {} stats counters that drifted from the tables: {}", corrections.size(), corrections);
+        }
+    }
+
+    private Map<Key, Long> countTables() {
+        Map<Key, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT role, CAST(created_at AS DATE) AS created_on, COUNT(*) AS amount FROM users"
+                + " GROUP BY role, CAST(created_at AS DATE)", rs -> {
+                    LocalDate day = rs.getDate("created_on").toLocalDate();
+                    long amount = rs.getLong("amount");
+                    String role = roleMetric(UserRole.valueOf(rs.getString("role")));
+                    count(counts, GLOBAL, USERS_REGISTERED, day, amount);
+                    count(counts, GLOBAL, role, day, amount);
+                });
+        jdbcTemplate.query("SELECT u.username, CAST(c.created_at AS DATE) AS created_on, COUNT(*) AS amount"
+                + " FROM certificates c JOIN users u ON u.id = c.issuer_id"
+                + " GROUP BY u.username, CAST(c.created_at AS DATE)", rs -> {
+                    LocalDate day = rs.getDate("created_on").toLocalDate();
+                    long amount = rs.getLong("amount");
+                    count(counts, GLOBAL, CERTIFICATES_ISSUED, day, amount);
+                    count(counts, issuerScope(rs.getString("username")), CERTIFICATES_ISSUED, day, amount);
+                });
+        // Past revocations and verifications have no dates, so only their totals are counted
+        jdbcTemplate.query("SELECT u.username, COUNT(*) AS amount FROM certificates c"
+                + " JOIN users u ON u.id = c.issuer_id WHERE c.status = 'REVOKED' GROUP BY u.username", rs -> {
+                    long amount = rs.getLong("amount");
+                    count(counts, GLOBAL, CERTIFICATES_REVOKED, null, amount);
+                    count(counts, issuerScope(rs.getString("username")), CERTIFICATES_REVOKED, null, amount);
+                });
+        jdbcTemplate.query("SELECT u.username, COUNT(c.first_verified_at) AS amount, SUM(c.views) AS views"
+                + " FROM certificates c JOIN users u ON u.id = c.issuer_id WHERE c.views > 0"
+                + " OR c.first_verified_at IS NOT NULL GROUP BY u.username", rs -> {
+                    String scope = issuerScope(rs.getString("username"));
+                    count(counts, GLOBAL, CERTIFICATES_VERIFIED, null, rs.getLong("amount"));
+                    count(counts, scope, CERTIFICATES_VERIFIED, null, rs.getLong("amount"));
+                    count(counts, GLOBAL, VERIFICATIONS, null, rs.getLong("views"));
+                    count(counts, scope, VERIFICATIONS, null, rs.getLong("views"));
+                });
+        return counts;
+    }
+
+    // Blocks on another instance's uncommitted claim, then sees it
+    private boolean claimBackfill() {
+        if (postgres) {
+            return jdbcTemplate.update(INSERT + " ON CONFLICT DO NOTHING",
+                    GLOBAL, BACKFILL_MARKER, Date.valueOf(TOTAL), 1) == 1;
+        }
+        return jdbcTemplate.update("INSERT INTO stats_counters (scope, metric, bucket_date, amount)"
+                + " SELECT ?, ?, ?, 1 WHERE NOT EXISTS (SELECT 1 FROM stats_counters WHERE scope = ? AND metric = ?)",
+                GLOBAL, BACKFILL_MARKER, Date.valueOf(TOTAL), GLOBAL, BACKFILL_MARKER) == 1;
+    }
+
+    private void write(Map<Key, Long> deltas) {
+        // Stable row order keeps concurrent flushes from different instances deadlock-free
+        List<Map.Entry<Key, Long>> rows = new ArrayList<>(deltas.entrySet());
+        rows.sort(Map.Entry.comparingByKey(Key.ORDER));
+        if (postgres) {
+            jdbcTemplate.batchUpdate(UPSERT_POSTGRES, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.getKey().scope());
+                ps.setString(2, row.getKey().metric());
+                ps.setDate(3, Date.valueOf(row.getKey().day()));
+                ps.setLong(4, row.getValue());
+            });
+            return;
+        }
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setString(2, row.getKey().scope());
+            ps.setString(3, row.getKey().metric());
+            ps.setDate(4, Date.valueOf(row.getKey().day()));
+        });
+        List<Map.Entry<Key, Long>> missing = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (updated[0][i] == 0) {
+                missing.add(rows.get(i));
+            }
+        }
+        // A concurrent insert of the same row fails the transaction, and the flush is re-queued
+        jdbcTemplate.batchUpdate(INSERT, missing, missing.size(), (ps, row) -> {
+            ps.setString(1, row.getKey().scope());
+            ps.setString(2, row.getKey().metric());
+            ps.setDate(3, Date.valueOf(row.getKey().day()));
+            ps.setLong(4, row.getValue());
+        });
+    }
+
+    private static void count(Map<Key, Long> counts, String scope, String metric, LocalDate day, long amount) {
+        counts.merge(new Key(scope, metric, TOTAL), amount, Long::sum);
+        if (day != null) {
+            counts.merge(new Key(scope, metric, day), amount, Long::sum);
+        }
+    }
+
+    private void add(String scope, String metric, long amount) {
+        addPending(new Key(scope, metric, TOTAL), amount);
+        addPending(new Key(scope, metric, LocalDate.now()), amount);
+    }
+
+    private void addPending(Key key, long amount) {
+        pending.computeIfAbsent(key, k -> new LongAdder()).add(amount);
+    }
+
+    private record Key(String scope, String metric, LocalDate day) {
+
+        static final Comparator<Key> ORDER = Comparator.comparing(Key::scope)
+                .thenComparing(Key::metric)
+                .thenComparing(Key::day);
+    }
+
+    /**
+     * Counter values of one scope: running totals and daily buckets
+     */
+    public static final class Snapshot {
+
+        private final Map<String, Long> totals = new HashMap<>();
+        private final Map<String, Map<LocalDate, Long>> daily = new HashMap<>();
+
+        private void add(String metric, LocalDate day, long amount) {
+            if (day.equals(TOTAL)) {
+                totals.merge(metric, amount, Long::sum);
+            } else {
+                daily.computeIfAbsent(metric, m -> new HashMap<>()).merge(day, amount, Long::sum);
+            }
+        }
+
+        public long total(String metric) {
+            return totals.getOrDefault(metric, 0L);
+        }
+
+        /**
+         * Sum of a metric's daily buckets in {@code [from, to)}
+         */
+        public long between(String metric, LocalDate from, LocalDate to) {
+            return daily.getOrDefault(metric, Map.of()).entrySet().stream()
+                    .filter(bucket -> !bucket.getKey().isBefore(from) && bucket.getKey().isBefore(to))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+        }
+    }
+}
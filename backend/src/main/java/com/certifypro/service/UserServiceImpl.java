@@ -9,8 +9,6 @@ import com.certifypro.entity.Skill;
 import com.certifypro.entity.User;
 import com.certifypro.entity.UserRole;
 import com.certifypro.exception.ResourceNotFoundException;
-import com.certifypro.repository.CertificateRepository;
-import com.certifypro.repository.SkillRepository;
 import com.certifypro.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,8 +16,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,11 +27,13 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final SkillRepository skillRepository;
+    private final SkillDictionary skillDictionary;
     private final StorageService storageService;
-    private final CertificateRepository certificateRepository;
+    private final CandidateMatcher candidateMatcher;
+    private final StatsCounters statsCounters;
 
     private static final String PROFILE_PICTURES_FOLDER = "profile-pictures";
+    private static final int STATS_WINDOW_DAYS = 30;
 
     @Override
     @Transactional
@@ -63,22 +64,11 @@ public class UserServiceImpl implements UserService {
 
         // Update skills
         if (request.getSkills() != null) {
-            Set<Skill> skills = new HashSet<>();
-            for (String skillName : request.getSkills()) {
-                Skill skill = skillRepository.findByName(skillName)
-                        .orElseGet(() -> {
-                            Skill newSkill = Skill.builder()
-                                    .name(skillName)
-                                    .endorsements(0)
-                                    .build();
-                            return skillRepository.save(newSkill);
-                        });
-                skills.add(skill);
-            }
-            user.setSkills(skills);
+            user.setSkills(skillDictionary.resolveAll(request.getSkills()));
         }
 
         User savedUser = userRepository.save(user);
+        candidateMatcher.candidateChanged(savedUser.getId());
         log.info("Profile updated successfully for user: {}", username);
 
         return convertToUserResponse(savedUser);
@@ -140,19 +130,21 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public IssuerStatsResponse getIssuerStats(String username) {
-        User issuer = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+        if (!userRepository.existsByUsername(username)) {
+            throw new ResourceNotFoundException("User not found: " + username);
+        }
 
-        // Get total certificates issued by this issuer
-        Long totalIssued = certificateRepository.countByIssuer(issuer);
+        // Totals and the last 30 daily buckets, maintained on issuance and verification
+        LocalDate today = LocalDate.now();
+        LocalDate monthStart = today.minusDays(STATS_WINDOW_DAYS - 1);
+        StatsCounters.Snapshot stats = statsCounters.read(StatsCounters.issuerScope(username), monthStart);
 
-        // Get monthly issue count (last 30 days)
-        java.time.LocalDateTime thirtyDaysAgo = java.time.LocalDateTime.now().minusDays(30);
-        Long monthlyIssue = certificateRepository.countByIssuerAndCreatedAtAfter(issuer, thirtyDaysAgo);
+        Long totalIssued = stats.total(StatsCounters.CERTIFICATES_ISSUED);
+        Long monthlyIssue = stats.between(StatsCounters.CERTIFICATES_ISSUED, monthStart, today.plusDays(1));
 
-        // Calculate verification rate (for now, assume all certificates are verified)
-        // This can be enhanced with actual verification tracking
-        Double verificationRate = 98.5;
+        // Share of issued certificates that have been verified at least once
+        Double verificationRate = Math.min(100.0,
+                percentage(stats.total(StatsCounters.CERTIFICATES_VERIFIED), totalIssued));
 
         // Active templates (for now, count total issued as templates)
         // This can be enhanced with actual template tracking
@@ -169,29 +161,28 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public AdminStatsResponse getAdminStats() {
-        // Get total users
-        Long totalUsers = userRepository.count();
+        LocalDate today = LocalDate.now();
+        LocalDate monthStart = today.minusDays(STATS_WINDOW_DAYS - 1);
+        StatsCounters.Snapshot stats = statsCounters.read(StatsCounters.GLOBAL, monthStart);
 
-        // Get total certificates
-        Long totalCertificates = certificateRepository.count();
+        Long totalUsers = stats.total(StatsCounters.USERS_REGISTERED);
+        Long totalCertificates = stats.total(StatsCounters.CERTIFICATES_ISSUED);
+        Long activeIssuers = stats.total(StatsCounters.roleMetric(UserRole.ISSUER));
 
-        // Get active issuers (users with ISSUER role)
-        Long activeIssuers = userRepository.countByRole(UserRole.ISSUER);
-
-        // Calculate monthly growth (for now, simplified - can be enhanced)
-        Double monthlyGrowth = 12.5;
+        // Growth of the user base over the last 30 days
+        long newUsers = stats.between(StatsCounters.USERS_REGISTERED, monthStart, today.plusDays(1));
+        Double monthlyGrowth = percentage(newUsers, totalUsers - newUsers);
 
         // Get user breakdown by role
-        java.util.List<AdminStatsResponse.UserRoleBreakdown> userBreakdown = new java.util.ArrayList<>();
+        List<AdminStatsResponse.UserRoleBreakdown> userBreakdown = new ArrayList<>();
 
         for (UserRole role : UserRole.values()) {
-            Long count = userRepository.countByRole(role);
-            Double percentage = totalUsers > 0 ? (count * 100.0 / totalUsers) : 0.0;
+            Long count = stats.total(StatsCounters.roleMetric(role));
 
             userBreakdown.add(AdminStatsResponse.UserRoleBreakdown.builder()
                     .role(role.name())
                     .count(count)
-                    .percentage(Math.round(percentage * 100.0) / 100.0)
+                    .percentage(percentage(count, totalUsers))
                     .build());
         }
 
@@ -222,9 +213,15 @@ public class UserServiceImpl implements UserService {
                 .activeJobs(activeJobs)
                 .candidatesReviewed(candidatesReviewed)
                 .hiringRate(hiringRate)
+                .matchableCandidates((long) candidateMatcher.getCandidateCount())
                 .build();
     }
 
+    // Percentage rounded to two decimals, 0 when there is no base
+    private static Double percentage(long part, long whole) {
+        return whole > 0 ? Math.round(part * 10000.0 / whole) / 100.0 : 0.0;
+    }
+
     private UserResponse convertToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
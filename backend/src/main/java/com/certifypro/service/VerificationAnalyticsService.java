@@ -0,0 +1,104 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.response.VerificationAnalyticsResponse;
+import com.certifypro.exception.BadRequestException;
+import com.certifypro.service.VerificationEventPipeline.Granularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Verification time series for dashboards, read from the rollups kept by
+ * {@link VerificationEventPipeline}. Buckets without verifications are returned as zero.
+ */
+@Service
+@RequiredArgsConstructor
+public class VerificationAnalyticsService {
+
+    private static final int TOP_SOURCES = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VerificationAnalyticsResponse getIssuerAnalytics(String issuerUsername, String granularity,
+            LocalDateTime from, LocalDateTime to) {
+        return read(StatsCounters.issuerScope(issuerUsername), granularity, from, to);
+    }
+
+    public VerificationAnalyticsResponse getGlobalAnalytics(String granularity, LocalDateTime from, LocalDateTime to) {
+        return read(StatsCounters.GLOBAL, granularity, from, to);
+    }
+
+    private VerificationAnalyticsResponse read(String scope, String granularityName, LocalDateTime from,
+            LocalDateTime to) {
+        Granularity granularity = resolveGranularity(granularityName);
+        LocalDateTime end = granularity.truncate(to != null ? to : LocalDateTime.now());
+        LocalDateTime start = granularity.truncate(from != null ? from : end.minus(granularity.getDefaultRange()));
+        if (start.isAfter(end)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (start.plus(granularity.getMaxRange()).isBefore(end)) {
+            throw new BadRequestException("Range too long for " + granularity.name().toLowerCase(Locale.ROOT)
+                    + " granularity; at most " + granularity.getMaxRange().toDays() + " day(s)");
+        }
+
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT bucket_start, amount FROM verification_rollups"
+                        + " WHERE scope = ? AND granularity = ? AND source = ? AND bucket_start BETWEEN ? AND ?",
+                rs -> {
+                    counts.put(rs.getTimestamp("bucket_start").toLocalDateTime(), rs.getLong("amount"));
+                },
+                scope, granularity.name(), VerificationEventPipeline.ALL_SOURCES,
+                Timestamp.valueOf(start), Timestamp.valueOf(end));
+
+        List<VerificationAnalyticsResponse.Bucket> buckets = new ArrayList<>();
+        long total = 0;
+        for (LocalDateTime bucket = start; !bucket.isAfter(end); bucket = bucket.plus(1, granularity.getUnit())) {
+            long count = counts.getOrDefault(bucket, 0L);
+            total += count;
+            buckets.add(VerificationAnalyticsResponse.Bucket.builder()
+                    .start(bucket)
+                    .count(count)
+                    .build());
+        }
+
+        // Sources are only kept per day, so they cover the whole days of the range
+        List<VerificationAnalyticsResponse.SourceCount> topSources = jdbcTemplate.query(
+                "SELECT source, SUM(amount) AS verifications FROM verification_rollups"
+                        + " WHERE scope = ? AND granularity = ? AND source <> ? AND bucket_start BETWEEN ? AND ?"
+                        + " GROUP BY source ORDER BY verifications DESC, source LIMIT " + TOP_SOURCES,
+                (rs, rowNum) -> VerificationAnalyticsResponse.SourceCount.builder()
+                        .source(rs.getString("source"))
+                        .count(rs.getLong("verifications"))
+                        .build(),
+                scope, Granularity.DAY.name(), VerificationEventPipeline.ALL_SOURCES,
+                Timestamp.valueOf(Granularity.DAY.truncate(start)), Timestamp.valueOf(end));
+
+        return VerificationAnalyticsResponse.builder()
+                .granularity(granularity.name().toLowerCase(Locale.ROOT))
+                .from(start)
+                .to(end)
+                .totalVerifications(total)
+                .buckets(buckets)
+                .topSources(topSources)
+                .build();
+    }
+
+    private static Granularity resolveGranularity(String granularity) {
+        if (granularity == null || granularity.isBlank()) {
+            return Granularity.HOUR;
+        }
+        try {
+            return Granularity.valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported granularity: " + granularity);
+        }
+    }
+}
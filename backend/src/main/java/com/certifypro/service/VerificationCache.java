@@ -0,0 +1,152 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.response.CertificateResponse;
+import com.certifypro.util.Transactions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded in-process cache of public verification results, keyed by verification ID.
+ * Entries expire after the configured TTL, or at the end of the certificate's expiry
+ * date if that comes first, so a cached ACTIVE snapshot never outlives the certificate.
+ * A certificate ID to verification ID index, kept in step with the cache inside its
+ * per-key atomic operations, lets snapshots be evicted by certificate without a scan.
+ */
+@Component
+public class VerificationCache {
+
+    public static final String CACHE_NAME = "certificate-verification";
+
+    private final Cache<String, CertificateResponse> cache;
+    private final Map<UUID, String> verificationIds = new ConcurrentHashMap<>();
+
+    public VerificationCache(@Value("${app.verification-cache.max-size:10000}") long maxSize,
+            @Value("${app.verification-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new SnapshotExpiry(ttl))
+                // Runs inside the evicting operation, unlike a removal listener
+                .evictionListener((String key, CertificateResponse value, RemovalCause cause) -> {
+                    if (value != null) {
+                        verificationIds.remove(value.getId(), key);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get a cached verification snapshot
+     *
+     * @param verificationId The public verification ID
+     * @return The cached snapshot, if present
+     */
+    public Optional<CertificateResponse> get(String verificationId) {
+        return Optional.ofNullable(cache.getIfPresent(verificationId));
+    }
+
+    /**
+     * Cache a verification snapshot
+     *
+     * @param verificationId The public verification ID
+     * @param response       The snapshot to cache
+     */
+    public void put(String verificationId, CertificateResponse response) {
+        cache.asMap().compute(verificationId, (key, previous) -> {
+            verificationIds.put(response.getId(), key);
+            return response;
+        });
+    }
+
+    /**
+     * Swap a cached snapshot for an updated copy, unless it was evicted or replaced meanwhile
+     *
+     * @param verificationId The public verification ID
+     * @param expected       The snapshot that was read from the cache
+     * @param updated        Its replacement
+     */
+    public void replace(String verificationId, CertificateResponse expected, CertificateResponse updated) {
+        cache.asMap().replace(verificationId, expected, updated);
+    }
+
+    /**
+     * Evict a snapshot now and, if a transaction is active, again once it commits so
+     * that a concurrent reload cannot re-cache the pre-commit state.
+     *
+     * @param verificationId The public verification ID
+     */
+    public void evict(String verificationId) {
+        invalidate(verificationId);
+        Transactions.afterCommit(() -> invalidate(verificationId));
+    }
+
+    /**
+     * Evict all snapshots belonging to the given certificates
+     *
+     * @param certificateIds The certificate IDs
+     */
+    public void evictCertificates(Collection<UUID> certificateIds) {
+        for (UUID certificateId : certificateIds) {
+            String verificationId = verificationIds.get(certificateId);
+            if (verificationId != null) {
+                invalidate(verificationId);
+            }
+        }
+    }
+
+    private void invalidate(String verificationId) {
+        cache.asMap().computeIfPresent(verificationId, (key, response) -> {
+            verificationIds.remove(response.getId(), key);
+            return null;
+        });
+    }
+
+    private static final class SnapshotExpiry implements Expiry<String, CertificateResponse> {
+
+        private final long ttlNanos;
+
+        private SnapshotExpiry(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, CertificateResponse value, long currentTime) {
+            LocalDate expiryDate = value.getExpiryDate();
+            if (expiryDate == null) {
+                return ttlNanos;
+            }
+            LocalDateTime expiresAt = expiryDate.plusDays(1).atStartOfDay();
+            long untilExpiry = Duration.between(LocalDateTime.now(), expiresAt).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CertificateResponse value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CertificateResponse value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
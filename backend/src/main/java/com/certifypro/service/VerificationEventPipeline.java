@@ -0,0 +1,348 @@
+package com.certifypro.service;
+
+import com.certifypro.config.DatabasePlatform;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Time series of certificate verifications. Verification paths publish events to a
+ * bounded in-process buffer without blocking or touching the database; a scheduled
+ * writer drains it, batch-inserts the raw events into {@code verification_events} and
+ * adds them to the minute, hour and day counts in {@code verification_rollups} in the
+ * same transaction. Dashboards read only the rollups.
+ *
+ * When the buffer is full, events are dropped and counted rather than slowing
+ * verification down. A crash loses at most one flush interval of events.
+ *
+ * Sources come from request headers anyone can set, so each scope keeps at most
+ * {@code max-sources-per-day} sources a day; verifications from any further source are
+ * counted under {@link #OTHER}. Instances flushing at the same moment may each admit one
+ * batch of sources past the limit.
+ */
+@Component
+@Slf4j
+public class VerificationEventPipeline {
+
+    public static final String CHANNEL_VERIFICATION_ID = "verification-id";
+    public static final String CHANNEL_CERTIFICATE_ID = "certificate-id";
+    static final String DIRECT = "direct";
+    // Rollup source of verifications from sources past a scope's daily limit
+    static final String OTHER = "other";
+    // Rollup source of a scope's total across sources
+    static final String ALL_SOURCES = "";
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_SOURCE_LENGTH = 255;
+
+    private static final String INSERT_EVENT = "INSERT INTO verification_events"
+            + " (certificate_id, issuer_username, channel, source, verified_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPSERT_ROLLUP_POSTGRES = "INSERT INTO verification_rollups"
+            + " (scope, granularity, bucket_start, source, amount) VALUES (?, ?, ?, ?, ?)"
+            + " ON CONFLICT (scope, granularity, bucket_start, source)"
+            + " DO UPDATE SET amount = verification_rollups.amount + EXCLUDED.amount";
+    private static final String UPDATE_ROLLUP = "UPDATE verification_rollups SET amount = amount + ?"
+            + " WHERE scope = ? AND granularity = ? AND bucket_start = ? AND source = ?";
+    private static final String INSERT_ROLLUP = "INSERT INTO verification_rollups"
+            + " (scope, granularity, bucket_start, source, amount) VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * Rollup bucket sizes, with the longest range a single analytics query may span
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES, Duration.ofHours(1), Duration.ofDays(1)),
+        HOUR(ChronoUnit.HOURS, Duration.ofDays(1), Duration.ofDays(31)),
+        DAY(ChronoUnit.DAYS, Duration.ofDays(30), Duration.ofDays(366));
+
+        private final ChronoUnit unit;
+        private final Duration defaultRange;
+        private final Duration maxRange;
+
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean postgres;
+    private final BlockingQueue<Event> buffer;
+    private final Counter dropped;
+
+    @Value("${app.verification-events.minute-retention:48h}")
+    private Duration minuteRetention;
+
+    @Value("${app.verification-events.max-sources-per-day:100}")
+    private int maxSourcesPerDay;
+
+    public VerificationEventPipeline(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            DatabasePlatform databasePlatform, MeterRegistry meterRegistry,
+            @Value("${app.verification-events.buffer-size:65536}") int bufferSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postgres = databasePlatform.isPostgres();
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.dropped = Counter.builder("verification.events.dropped")
+                .description("Verification events dropped because the buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("verification.events.buffered", buffer, BlockingQueue::size)
+                .description("Verification events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a verification. Never blocks; the source is taken from the current request's
+     * Referer or Origin header, if any.
+     *
+     * @param certificateId  The verified certificate
+     * @param issuerUsername The issuing user's username
+     * @param channel        How the certificate was looked up
+     */
+    public void publish(UUID certificateId, String issuerUsername, String channel) {
+        Event event = new Event(certificateId, issuerUsername, channel, currentSource(), LocalDateTime.now());
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.verification-events.flush-interval-ms:1000}")
+    public void flush() {
+        List<Event> batch = new ArrayList<>(BATCH_SIZE);
+        // Bounded so one run cannot chase a buffer that refills as fast as it drains
+        int batches = buffer.size() / BATCH_SIZE + 1;
+        for (int i = 0; i < batches && buffer.drainTo(batch, BATCH_SIZE) > 0; i++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+            } catch (DataAccessException e) {
+                // Events are not re-queued: a batch the database rejects would be retried forever
+                log.error("Failed to write {} verification events", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Create this month's and next month's partitions ahead of the events that need them
+     */
+    @PostConstruct
+    @Scheduled(cron = "${app.verification-events.partition-cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        if (!postgres) {
+            return;
+        }
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i < 2; i++, month = month.plusMonths(1)) {
+            String partition = String.format("verification_events_y%04dm%02d", month.getYear(), month.getMonthValue());
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition
+                        + " PARTITION OF verification_events FOR VALUES FROM ('" + month + "') TO ('"
+                        + month.plusMonths(1) + "')");
+            } catch (DataAccessException e) {
+                // e.g. the default partition already holds rows of that month
+                log.warn("Could not create partition {}", partition, e);
+            }
+        }
+    }
+
+    /**
+     * Minute buckets are only shown for recent ranges, so older ones are deleted
+     */
+    @Scheduled(fixedDelayString = "${app.verification-events.prune-interval-ms:3600000}")
+    public void pruneMinuteRollups() {
+        int deleted = jdbcTemplate.update("DELETE FROM verification_rollups WHERE granularity = ? AND bucket_start < ?",
+                Granularity.MINUTE.name(), Timestamp.valueOf(LocalDateTime.now().minus(minuteRetention)));
+        if (deleted > 0) {
+            log.debug("Pruned {} minute verification rollups", deleted);
+        }
+    }
+
+    private void write(List<Event> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, event) -> {
+            ps.setObject(1, event.certificateId());
+            ps.setString(2, event.issuerUsername());
+            ps.setString(3, event.channel());
+            ps.setString(4, event.source());
+            ps.setTimestamp(5, Timestamp.valueOf(event.verifiedAt()));
+        });
+
+        Map<RollupKey, Long> rollups = new HashMap<>();
+        Map<RollupKey, Long> sources = new HashMap<>();
+        for (Event event : events) {
+            for (String scope : List.of(StatsCounters.GLOBAL, StatsCounters.issuerScope(event.issuerUsername()))) {
+                for (Granularity granularity : Granularity.values()) {
+                    rollups.merge(new RollupKey(scope, granularity, granularity.truncate(event.verifiedAt()),
+                            ALL_SOURCES), 1L, Long::sum);
+                }
+                sources.merge(new RollupKey(scope, Granularity.DAY, Granularity.DAY.truncate(event.verifiedAt()),
+                        event.source()), 1L, Long::sum);
+            }
+        }
+        capSources(sources).forEach((key, amount) -> rollups.merge(key, amount, Long::sum));
+        writeRollups(rollups);
+    }
+
+    /**
+     * Fold sources a scope has not seen today into {@link #OTHER} once it has reached
+     * its limit, admitting the busiest new sources first
+     */
+    private Map<RollupKey, Long> capSources(Map<RollupKey, Long> deltas) {
+        Map<LocalDateTime, List<String>> scopesByDay = new HashMap<>();
+        deltas.keySet().forEach(key -> scopesByDay.computeIfAbsent(key.bucketStart(), d -> new ArrayList<>())
+                .add(key.scope()));
+        Map<RollupKey, Set<String>> known = new HashMap<>();
+        scopesByDay.forEach((day, scopes) -> {
+            List<String> distinct = scopes.stream().distinct().toList();
+            List<Object> args = new ArrayList<>(distinct);
+            args.add(Granularity.DAY.name());
+            args.add(Timestamp.valueOf(day));
+            args.add(ALL_SOURCES);
+            jdbcTemplate.query("SELECT scope, source FROM verification_rollups WHERE scope IN ("
+                    + String.join(", ", Collections.nCopies(distinct.size(), "?"))
+                    + ") AND granularity = ? AND bucket_start = ? AND source <> ?", rs -> {
+                        known.computeIfAbsent(new RollupKey(rs.getString("scope"), Granularity.DAY, day, ALL_SOURCES),
+                                k -> new HashSet<>()).add(rs.getString("source"));
+                    }, args.toArray());
+        });
+
+        List<Map.Entry<RollupKey, Long>> busiestFirst = new ArrayList<>(deltas.entrySet());
+        busiestFirst.sort(Map.Entry.<RollupKey, Long>comparingByValue().reversed());
+        Map<RollupKey, Long> capped = new HashMap<>();
+        for (Map.Entry<RollupKey, Long> delta : busiestFirst) {
+            RollupKey key = delta.getKey();
+            Set<String> seen = known.computeIfAbsent(key.withSource(ALL_SOURCES), k -> new HashSet<>());
+            if (!isCapped(key.source()) || seen.contains(key.source()) || cappedCount(seen) < maxSourcesPerDay) {
+                seen.add(key.source());
+            } else {
+                key = key.withSource(OTHER);
+            }
+            capped.merge(key, delta.getValue(), Long::sum);
+        }
+        return capped;
+    }
+
+    private static boolean isCapped(String source) {
+        return !source.equals(DIRECT) && !source.equals(OTHER);
+    }
+
+    private static long cappedCount(Set<String> sources) {
+        return sources.stream().filter(VerificationEventPipeline::isCapped).count();
+    }
+
+    private void writeRollups(Map<RollupKey, Long> deltas) {
+        // Stable row order keeps concurrent writers on different instances deadlock-free
+        List<Map.Entry<RollupKey, Long>> rows = new ArrayList<>(deltas.entrySet());
+        rows.sort(Map.Entry.comparingByKey(RollupKey.ORDER));
+        if (postgres) {
+            jdbcTemplate.batchUpdate(UPSERT_ROLLUP_POSTGRES, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.getKey().scope());
+                ps.setString(2, row.getKey().granularity().name());
+                ps.setTimestamp(3, Timestamp.valueOf(row.getKey().bucketStart()));
+                ps.setString(4, row.getKey().source());
+                ps.setLong(5, row.getValue());
+            });
+            return;
+        }
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_ROLLUP, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setString(2, row.getKey().scope());
+            ps.setString(3, row.getKey().granularity().name());
+            ps.setTimestamp(4, Timestamp.valueOf(row.getKey().bucketStart()));
+            ps.setString(5, row.getKey().source());
+        });
+        List<Map.Entry<RollupKey, Long>> missing = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (updated[0][i] == 0) {
+                missing.add(rows.get(i));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROLLUP, missing, missing.size(), (ps, row) -> {
+            ps.setString(1, row.getKey().scope());
+            ps.setString(2, row.getKey().granularity().name());
+            ps.setTimestamp(3, Timestamp.valueOf(row.getKey().bucketStart()));
+            ps.setString(4, row.getKey().source());
+            ps.setLong(5, row.getValue());
+        });
+    }
+
+    private static String currentSource() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return DIRECT;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String origin = request.getHeader(HttpHeaders.REFERER);
+        if (origin == null) {
+            origin = request.getHeader(HttpHeaders.ORIGIN);
+        }
+        if (origin == null) {
+            return DIRECT;
+        }
+        try {
+            String host = URI.create(origin.trim()).getHost();
+            if (host == null || host.isEmpty()) {
+                return DIRECT;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            return host.length() > MAX_SOURCE_LENGTH ? host.substring(0, MAX_SOURCE_LENGTH) : host;
+        } catch (IllegalArgumentException e) {
+            return DIRECT;
+        }
+    }
+
+    private record Event(UUID certificateId, String issuerUsername, String channel, String source,
+            LocalDateTime verifiedAt) {
+    }
+
+    private record RollupKey(String scope, Granularity granularity, LocalDateTime bucketStart, String source) {
+
+        RollupKey withSource(String newSource) {
+            return new RollupKey(scope, granularity, bucketStart, newSource);
+        }
+
+        static final Comparator<RollupKey> ORDER = Comparator.comparing(RollupKey::scope)
+                .thenComparing(RollupKey::granularity)
+                .thenComparing(RollupKey::bucketStart)
+                .thenComparing(RollupKey::source);
+    }
+}
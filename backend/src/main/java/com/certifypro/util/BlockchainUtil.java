@@ -1,48 +1,80 @@
 package com.certifypro.util;
 
+import com.certifypro.entity.Certificate;
+import com.certifypro.entity.Skill;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.UUID;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
 
 @Component
 public class BlockchainUtil {
 
     /**
-     * Generate a mock blockchain hash for certificate verification
-     * In production, this would interact with actual blockchain
+     * Hash version of certificates issued before canonical hashing
      */
-    public String generateBlockchainHash(UUID certificateId, String holderEmail, String issuerEmail,
-            String certificateName) {
+    public static final int LEGACY_HASH_VERSION = 0;
+
+    /**
+     * Hash version produced by {@link #generateBlockchainHash}
+     */
+    public static final int HASH_VERSION = 1;
+
+    private static final String CANONICAL_VERSION = "certifypro-certificate-v" + HASH_VERSION;
+
+    /**
+     * Deterministic hash of a certificate's canonical fields. Only fields that never
+     * change after issuance are included (not status or views), each length-prefixed so
+     * no two field combinations serialize alike, so the hash can be recomputed at any
+     * time to detect tampering.
+     *
+     * @param certificate The certificate; holder and issuer only need their IDs loaded
+     * @return SHA-256 hash as {@code 0x}-prefixed hex
+     */
+    public String generateBlockchainHash(Certificate certificate) {
+        StringBuilder canonical = new StringBuilder();
+        appendField(canonical, CANONICAL_VERSION);
+        appendField(canonical, certificate.getId());
+        appendField(canonical, certificate.getVerificationId());
+        appendField(canonical, certificate.getHolder().getId());
+        appendField(canonical, certificate.getIssuer().getId());
+        appendField(canonical, certificate.getName());
+        appendField(canonical, certificate.getDescription());
+        appendField(canonical, certificate.getIssuedDate());
+        appendField(canonical, certificate.getExpiryDate());
+        appendField(canonical, certificate.getSkills().stream()
+                .map(Skill::getName)
+                .sorted()
+                .collect(Collectors.joining("\n")));
+
         try {
-            String data = certificateId.toString() + holderEmail + issuerEmail + certificateName
-                    + System.currentTimeMillis();
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(data.getBytes(StandardCharsets.UTF_8));
-
-            // Convert to hex string with 0x prefix (blockchain style)
-            StringBuilder hexString = new StringBuilder("0x");
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1)
-                    hexString.append('0');
-                hexString.append(hex);
-            }
-
-            return hexString.toString();
+            byte[] hash = digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+
+            // Hex string with 0x prefix (blockchain style)
+            return "0x" + HexFormat.of().formatHex(hash);
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("Error generating blockchain hash", e);
         }
     }
 
     /**
-     * Verify blockchain hash (mock implementation)
-     * In production, this would verify against actual blockchain
+     * Check that a hash is well formed. Hashes issued before canonical hashing cannot be
+     * recomputed; this is all that can be checked for them until they are anchored.
      */
     public boolean verifyBlockchainHash(String hash) {
-        // Mock verification - check if hash has correct format
         return hash != null && hash.startsWith("0x") && hash.length() == 66;
     }
+
+    private void appendField(StringBuilder canonical, Object value) {
+        if (value == null) {
+            canonical.append("~;");
+            return;
+        }
+        String text = value.toString();
+        canonical.append(text.length()).append(':').append(text).append(';');
+    }
 }
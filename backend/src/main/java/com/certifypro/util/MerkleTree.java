@@ -0,0 +1,133 @@
+package com.certifypro.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Binary SHA-256 Merkle tree over certificate hashes. Leaves and inner nodes are hashed
+ * with distinct prefixes so a leaf can never be passed off as a node, and an odd node at
+ * the end of a level is promoted unchanged rather than paired with itself.
+ *
+ * Inclusion proofs are encoded as comma-separated steps, each {@code L} or {@code R}
+ * (the side the sibling sits on) followed by the sibling's hex hash, from leaf to root.
+ */
+public final class MerkleTree {
+
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final List<byte[][]> levels = new ArrayList<>();
+
+    /**
+     * Build a tree over the given leaf values
+     *
+     * @param leaves Certificate hashes in {@code 0x}-prefixed hex, in anchoring order
+     */
+    public MerkleTree(List<String> leaves) {
+        if (leaves.isEmpty()) {
+            throw new IllegalArgumentException("A Merkle tree needs at least one leaf");
+        }
+        byte[][] level = new byte[leaves.size()][];
+        for (int i = 0; i < level.length; i++) {
+            level[i] = leafHash(leaves.get(i));
+        }
+        levels.add(level);
+        while (level.length > 1) {
+            byte[][] parent = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < parent.length; i++) {
+                int left = 2 * i;
+                parent[i] = left + 1 < level.length ? nodeHash(level[left], level[left + 1]) : level[left];
+            }
+            levels.add(parent);
+            level = parent;
+        }
+    }
+
+    public String getRoot() {
+        return "0x" + HEX.formatHex(levels.get(levels.size() - 1)[0]);
+    }
+
+    /**
+     * Inclusion proof for one leaf
+     *
+     * @param index Position of the leaf as passed to the constructor
+     * @return Encoded proof, empty for a single-leaf tree
+     */
+    public String proof(int index) {
+        StringBuilder proof = new StringBuilder();
+        for (int depth = 0; depth < levels.size() - 1; depth++) {
+            byte[][] level = levels.get(depth);
+            int sibling = index ^ 1;
+            if (sibling < level.length) {
+                if (proof.length() > 0) {
+                    proof.append(',');
+                }
+                proof.append(sibling < index ? 'L' : 'R').append(HEX.formatHex(level[sibling]));
+            }
+            index /= 2;
+        }
+        return proof.toString();
+    }
+
+    /**
+     * Check that a leaf is included under a root, in time logarithmic in the tree size
+     *
+     * @param leaf  Certificate hash in {@code 0x}-prefixed hex
+     * @param proof Encoded proof from {@link #proof(int)}
+     * @param root  Expected root in {@code 0x}-prefixed hex
+     * @return Whether the proof folds to the root
+     */
+    public static boolean verify(String leaf, String proof, String root) {
+        if (leaf == null || proof == null || root == null) {
+            return false;
+        }
+        try {
+            byte[] hash = leafHash(leaf);
+            if (!proof.isEmpty()) {
+                for (String step : proof.split(",")) {
+                    byte[] sibling = HEX.parseHex(step.substring(1));
+                    hash = switch (step.charAt(0)) {
+                        case 'L' -> nodeHash(sibling, hash);
+                        case 'R' -> nodeHash(hash, sibling);
+                        default -> throw new IllegalArgumentException("Bad proof step: " + step);
+                    };
+                }
+            }
+            return MessageDigest.isEqual(hash, HEX.parseHex(strip(root)));
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    private static byte[] leafHash(String leaf) {
+        MessageDigest digest = sha256();
+        digest.update(LEAF_PREFIX);
+        digest.update(strip(leaf).getBytes(StandardCharsets.US_ASCII));
+        return digest.digest();
+    }
+
+    private static byte[] nodeHash(byte[] left, byte[] right) {
+        MessageDigest digest = sha256();
+        digest.update(NODE_PREFIX);
+        digest.update(left);
+        digest.update(right);
+        return digest.digest();
+    }
+
+    private static String strip(String hex) {
+        return hex.startsWith("0x") ? hex.substring(2) : hex;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
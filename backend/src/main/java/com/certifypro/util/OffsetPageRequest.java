@@ -0,0 +1,65 @@
+package com.certifypro.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unsorted {@link Pageable} starting at an arbitrary row offset. {@code PageRequest} only
+ * starts at multiples of its page size, which offset cursors do not line up with when
+ * the client changes the limit between pages.
+ */
+@Getter
+@EqualsAndHashCode
+public final class OffsetPageRequest implements Pageable {
+
+    private final long offset;
+    private final int pageSize;
+
+    public OffsetPageRequest(long offset, int pageSize) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        this.offset = offset;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / pageSize);
+    }
+
+    @Override
+    public Sort getSort() {
+        return Sort.unsorted();
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetPageRequest(offset + pageSize, pageSize);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return hasPrevious() ? new OffsetPageRequest(Math.max(0, offset - pageSize), pageSize) : first();
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetPageRequest(0, pageSize);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetPageRequest((long) pageNumber * pageSize, pageSize);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+}
@@ -0,0 +1,83 @@
+package com.certifypro.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Builds the HTML excerpts returned with search results. Text is always escaped before
+ * the {@code <mark>} tags are added, so stored content cannot inject markup.
+ */
+public final class SearchHighlighter {
+
+    // Match delimiters asked of ts_headline; control characters cannot appear in escaped output
+    public static final char START_SEL = '\u0002';
+    public static final char STOP_SEL = '\u0003';
+
+    private static final String MARK_OPEN = "<mark>";
+    private static final String MARK_CLOSE = "</mark>";
+
+    private SearchHighlighter() {
+    }
+
+    /**
+     * Turn a ts_headline fragment delimited with {@link #START_SEL} and {@link #STOP_SEL}
+     * into escaped HTML
+     */
+    public static String fromHeadline(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(String.valueOf(START_SEL), MARK_OPEN)
+                .replace(String.valueOf(STOP_SEL), MARK_CLOSE);
+    }
+
+    /**
+     * Mark every case-insensitive occurrence of a phrase, keeping a window of at most
+     * {@code maxLength} characters around the first one
+     *
+     * @param text      Plain text, may be null
+     * @param phrase    The phrase to mark
+     * @param maxLength Longest excerpt returned, before markup
+     * @return Escaped HTML excerpt, or null when there is no text
+     */
+    public static String highlight(String text, String phrase, int maxLength) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        int first = indexOf(text, phrase, 0);
+        int start = first < 0 ? 0 : Math.max(0, Math.min(first - maxLength / 4, text.length() - maxLength));
+        int end = Math.min(text.length(), start + maxLength);
+
+        StringBuilder html = new StringBuilder();
+        if (start > 0) {
+            html.append("…");
+        }
+        int position = start;
+        int match = first < 0 ? -1 : indexOf(text, phrase, start);
+        while (match >= 0 && match + phrase.length() <= end) {
+            html.append(HtmlUtils.htmlEscape(text.substring(position, match)))
+                    .append(MARK_OPEN)
+                    .append(HtmlUtils.htmlEscape(text.substring(match, match + phrase.length())))
+                    .append(MARK_CLOSE);
+            position = match + phrase.length();
+            match = indexOf(text, phrase, position);
+        }
+        html.append(HtmlUtils.htmlEscape(text.substring(position, end)));
+        if (end < text.length()) {
+            html.append("…");
+        }
+        return html.toString();
+    }
+
+    private static int indexOf(String text, String phrase, int from) {
+        if (phrase.isEmpty()) {
+            return -1;
+        }
+        for (int i = from; i <= text.length() - phrase.length(); i++) {
+            if (text.regionMatches(true, i, phrase, 0, phrase.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.certifypro.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Deferring in-memory side effects until the database change they mirror is committed,
+ * so a rollback never leaves caches or counters ahead of the tables.
+ */
+public final class Transactions {
+
+    private Transactions() {
+    }
+
+    /**
+     * Run an action once the current transaction commits, or right away if there is none.
+     * Nothing runs if the transaction rolls back.
+     *
+     * @param action The action to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
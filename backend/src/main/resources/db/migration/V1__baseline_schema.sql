@@ -0,0 +1,106 @@
+-- Schema as previously maintained by hibernate.ddl-auto=update for the released entities.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and skip this script, so it must not contain anything they lack.
+
+CREATE TABLE users (
+    id                 UUID         NOT NULL,
+    email              VARCHAR(255) NOT NULL,
+    username           VARCHAR(100) NOT NULL,
+    password           VARCHAR(255) NOT NULL,
+    role               VARCHAR(255) NOT NULL CHECK (role IN ('INDIVIDUAL', 'ISSUER', 'EMPLOYER', 'ADMIN')),
+    avatar             VARCHAR(500),
+    bio                TEXT,
+    organization       VARCHAR(255),
+    location           VARCHAR(255),
+    experience         VARCHAR(255),
+    profile_visibility VARCHAR(255) CHECK (profile_visibility IN ('PUBLIC', 'PRIVATE')),
+    enabled            BOOLEAN,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE skills (
+    id           BIGSERIAL    NOT NULL,
+    name         VARCHAR(100) NOT NULL,
+    endorsements INTEGER      NOT NULL,
+    CONSTRAINT pk_skills PRIMARY KEY (id),
+    CONSTRAINT uk_skills_name UNIQUE (name)
+);
+
+CREATE TABLE user_skills (
+    user_id  UUID   NOT NULL,
+    skill_id BIGINT NOT NULL,
+    CONSTRAINT pk_user_skills PRIMARY KEY (skill_id, user_id),
+    CONSTRAINT fk_user_skills_user FOREIGN KEY (user_id) REFERENCES users,
+    CONSTRAINT fk_user_skills_skill FOREIGN KEY (skill_id) REFERENCES skills
+);
+
+CREATE TABLE certificates (
+    id              UUID         NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    description     TEXT,
+    issued_date     DATE         NOT NULL,
+    expiry_date     DATE,
+    status          VARCHAR(255) NOT NULL CHECK (status IN ('ACTIVE', 'EXPIRED', 'REVOKED', 'PENDING')),
+    blockchain_hash VARCHAR(255),
+    qr_code         TEXT,
+    verification_id VARCHAR(255) NOT NULL,
+    views           INTEGER      NOT NULL,
+    holder_id       UUID         NOT NULL,
+    issuer_id       UUID         NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_certificates PRIMARY KEY (id),
+    CONSTRAINT uk_certificates_blockchain_hash UNIQUE (blockchain_hash),
+    CONSTRAINT uk_certificates_verification_id UNIQUE (verification_id),
+    CONSTRAINT fk_certificates_holder FOREIGN KEY (holder_id) REFERENCES users,
+    CONSTRAINT fk_certificates_issuer FOREIGN KEY (issuer_id) REFERENCES users
+);
+
+CREATE TABLE certificate_skills (
+    certificate_id UUID   NOT NULL,
+    skill_id       BIGINT NOT NULL,
+    CONSTRAINT pk_certificate_skills PRIMARY KEY (skill_id, certificate_id),
+    CONSTRAINT fk_certificate_skills_certificate FOREIGN KEY (certificate_id) REFERENCES certificates,
+    CONSTRAINT fk_certificate_skills_skill FOREIGN KEY (skill_id) REFERENCES skills
+);
+
+CREATE TABLE certificate_requests (
+    id                     UUID         NOT NULL,
+    requester_id           UUID         NOT NULL,
+    issuer_id              UUID         NOT NULL,
+    request_message        TEXT,
+    status                 VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED')),
+    requested_at           TIMESTAMP(6) NOT NULL,
+    responded_at           TIMESTAMP(6),
+    rejection_reason       TEXT,
+    payment_amount         FLOAT(53)    NOT NULL,
+    is_paid                BOOLEAN      NOT NULL,
+    payment_transaction_id VARCHAR(255),
+    paid_at                TIMESTAMP(6),
+    CONSTRAINT pk_certificate_requests PRIMARY KEY (id),
+    CONSTRAINT fk_certificate_requests_requester FOREIGN KEY (requester_id) REFERENCES users,
+    CONSTRAINT fk_certificate_requests_issuer FOREIGN KEY (issuer_id) REFERENCES users
+);
+
+CREATE TABLE certificate_request_skills (
+    certificate_request_id UUID   NOT NULL,
+    skill_id               BIGINT NOT NULL,
+    CONSTRAINT pk_certificate_request_skills PRIMARY KEY (skill_id, certificate_request_id),
+    CONSTRAINT fk_certificate_request_skills_request FOREIGN KEY (certificate_request_id) REFERENCES certificate_requests,
+    CONSTRAINT fk_certificate_request_skills_skill FOREIGN KEY (skill_id) REFERENCES skills
+);
+
+CREATE TABLE notifications (
+    id         UUID         NOT NULL,
+    type       VARCHAR(255) NOT NULL CHECK (type IN ('CERTIFICATE', 'ENDORSEMENT', 'EXPIRY', 'SYSTEM')),
+    title      VARCHAR(255) NOT NULL,
+    message    TEXT         NOT NULL,
+    is_read    BOOLEAN      NOT NULL,
+    user_id    UUID         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_notifications PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users
+);
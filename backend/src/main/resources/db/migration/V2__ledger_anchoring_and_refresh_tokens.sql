@@ -0,0 +1,36 @@
+-- Columns and tables added since the baseline schema: serial numbers for the revocation
+-- bitmap, batched Merkle anchoring and rotating refresh tokens.
+
+-- Existing rows are numbered when the identity column is added
+ALTER TABLE certificates ADD COLUMN serial_number BIGINT GENERATED BY DEFAULT AS IDENTITY;
+ALTER TABLE certificates ADD CONSTRAINT uk_certificates_serial_number UNIQUE (serial_number);
+
+CREATE TABLE anchor_batches (
+    id               UUID         NOT NULL,
+    merkle_root      VARCHAR(66)  NOT NULL,
+    leaf_count       INTEGER      NOT NULL,
+    ledger           VARCHAR(255) NOT NULL,
+    ledger_reference VARCHAR(255) NOT NULL,
+    anchored_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_anchor_batches PRIMARY KEY (id)
+);
+
+-- Existing certificates join the anchoring queue (anchor_batch_id IS NULL)
+ALTER TABLE certificates ADD COLUMN anchor_batch_id UUID;
+ALTER TABLE certificates ADD COLUMN merkle_proof TEXT;
+
+-- QR images are rendered by their own endpoint instead of being stored
+ALTER TABLE certificates DROP COLUMN qr_code;
+
+CREATE TABLE refresh_tokens (
+    id         UUID         NOT NULL,
+    token_hash VARCHAR(64)  NOT NULL,
+    user_id    UUID         NOT NULL,
+    family_id  UUID         NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    used_at    TIMESTAMP(6),
+    revoked    BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
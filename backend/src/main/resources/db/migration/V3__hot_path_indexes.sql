@@ -0,0 +1,41 @@
+-- Indexes matched to the hot queries in CertificateRepository, CertificateRequestRepository
+-- and NotificationRepository.
+
+-- certificates: holder/issuer listings and keyset pages, countByHolder, countByIssuer,
+-- countByIssuerAndCreatedAtAfter and the issuer export (ordered by created_at)
+CREATE INDEX idx_certificates_holder_created ON certificates (holder_id, created_at, id);
+CREATE INDEX idx_certificates_issuer_created ON certificates (issuer_id, created_at, id);
+
+-- findUnanchored: only queued rows are indexed, in queue order
+CREATE INDEX idx_certificates_anchor_pending ON certificates (created_at, id) WHERE anchor_batch_id IS NULL;
+
+-- findSerialNumbersByStatus(REVOKED) rebuilds the revocation bitmap from this alone
+CREATE INDEX idx_certificates_revoked_serial ON certificates (serial_number) WHERE status = 'REVOKED';
+
+-- findExpiringBetween
+CREATE INDEX idx_certificates_expiry ON certificates (expiry_date) WHERE expiry_date IS NOT NULL;
+
+-- Join tables are keyed (skill_id, owner); loading an owner's skills needs the owner column first
+CREATE INDEX idx_certificate_skills_certificate ON certificate_skills (certificate_id);
+CREATE INDEX idx_user_skills_user ON user_skills (user_id);
+CREATE INDEX idx_certificate_request_skills_request ON certificate_request_skills (certificate_request_id);
+
+-- certificate_requests: issuer inbox pages, findByIssuerAndStatus, countByIssuerAndStatus
+CREATE INDEX idx_certificate_requests_issuer_requested
+    ON certificate_requests (issuer_id, requested_at, id);
+CREATE INDEX idx_certificate_requests_issuer_status_requested
+    ON certificate_requests (issuer_id, status, requested_at, id);
+
+-- findByRequesterOrderByRequestedAtDesc, findByRequesterAndStatus
+CREATE INDEX idx_certificate_requests_requester_requested
+    ON certificate_requests (requester_id, requested_at);
+
+-- notifications: findByUserOrderByCreatedAtDesc, deleteByUser
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at);
+
+-- countUnreadByUser, findByUserAndReadOrderByCreatedAtDesc(read = false)
+CREATE INDEX idx_notifications_user_unread ON notifications (user_id, created_at) WHERE is_read = false;
+
+-- refresh_tokens: family revocation and the expiry sweep
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
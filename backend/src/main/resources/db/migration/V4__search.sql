@@ -0,0 +1,24 @@
+-- Ranked full-text search over certificates and profiles (SearchService). The vectors are
+-- generated columns, so they are kept current by every write path without triggers.
+-- pg_trgm needs CREATE privilege on the database the first time it is installed.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE certificates ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+-- Usernames are not words, so they are indexed unstemmed; typos in them are caught by the
+-- trigram index instead
+ALTER TABLE users ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(username, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(organization, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(bio, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_certificates_search ON certificates USING gin (search_vector);
+CREATE INDEX idx_users_search ON users USING gin (search_vector);
+
+-- Fuzzy matches on the short identifying fields (name % :text, username % :text)
+CREATE INDEX idx_certificates_name_trgm ON certificates USING gin (name gin_trgm_ops);
+CREATE INDEX idx_users_username_trgm ON users USING gin (username gin_trgm_ops);
@@ -0,0 +1,10 @@
+-- Dashboard counters maintained by StatsCounters. Each (scope, metric) has a running total
+-- under bucket_date 1970-01-01 and one row per day it changed; amounts only ever grow by
+-- the deltas flushed from each instance.
+CREATE TABLE stats_counters (
+    scope       VARCHAR(100) NOT NULL,
+    metric      VARCHAR(64)  NOT NULL,
+    bucket_date DATE         NOT NULL,
+    amount      BIGINT       NOT NULL,
+    CONSTRAINT pk_stats_counters PRIMARY KEY (scope, metric, bucket_date)
+);
@@ -0,0 +1,28 @@
+-- Raw verification events, written in batches by VerificationEventPipeline and partitioned
+-- by month so old months can be detached or dropped whole. The pipeline creates the
+-- current and next month's partitions; the default partition only catches rows outside them.
+CREATE TABLE verification_events (
+    id              BIGSERIAL    NOT NULL,
+    certificate_id  UUID         NOT NULL,
+    issuer_username VARCHAR(100) NOT NULL,
+    channel         VARCHAR(32)  NOT NULL,
+    source          VARCHAR(255) NOT NULL,
+    verified_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_verification_events PRIMARY KEY (id, verified_at)
+) PARTITION BY RANGE (verified_at);
+
+CREATE TABLE verification_events_default PARTITION OF verification_events DEFAULT;
+
+CREATE INDEX idx_verification_events_certificate ON verification_events (certificate_id, verified_at);
+
+-- Minute, hour and day counts per scope ('global' or 'issuer:<username>'), maintained in
+-- the same transaction as the events. source is '' for the scope's total; per-source
+-- counts are kept at day granularity only.
+CREATE TABLE verification_rollups (
+    scope        VARCHAR(100) NOT NULL,
+    granularity  VARCHAR(8)   NOT NULL,
+    bucket_start TIMESTAMP(6) NOT NULL,
+    source       VARCHAR(255) NOT NULL,
+    amount       BIGINT       NOT NULL,
+    CONSTRAINT pk_verification_rollups PRIMARY KEY (scope, granularity, bucket_start, source)
+);
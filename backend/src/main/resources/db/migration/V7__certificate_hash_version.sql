@@ -0,0 +1,7 @@
+-- Format of certificates.blockchain_hash: 0 = issued before canonical hashing, so it cannot
+-- be recomputed from the certificate's fields; 1 = canonical v1 hash. Anchored rows were
+-- re-hashed canonically when anchored. Unanchored rows cannot be told apart reliably and
+-- are marked legacy, which re-hashes them on anchoring as before.
+ALTER TABLE certificates ADD COLUMN hash_version INTEGER NOT NULL DEFAULT 0;
+UPDATE certificates SET hash_version = 1 WHERE anchor_batch_id IS NOT NULL;
+ALTER TABLE certificates ALTER COLUMN hash_version DROP DEFAULT;
@@ -0,0 +1,39 @@
+-- Skill names are unique regardless of case, as SkillDictionary matches them. Skills that
+-- differ only in case are merged into the oldest one first: their users, certificates and
+-- requests move over and their endorsements are added to it.
+CREATE TEMPORARY TABLE skill_merges AS
+SELECT s.id AS duplicate_id, k.keep_id
+FROM skills s
+JOIN (SELECT lower(name) AS name_key, min(id) AS keep_id
+      FROM skills
+      GROUP BY lower(name)
+      HAVING count(*) > 1) k ON lower(s.name) = k.name_key
+WHERE s.id <> k.keep_id;
+
+INSERT INTO user_skills (user_id, skill_id)
+SELECT us.user_id, m.keep_id FROM user_skills us JOIN skill_merges m ON us.skill_id = m.duplicate_id
+ON CONFLICT DO NOTHING;
+DELETE FROM user_skills WHERE skill_id IN (SELECT duplicate_id FROM skill_merges);
+
+INSERT INTO certificate_skills (certificate_id, skill_id)
+SELECT cs.certificate_id, m.keep_id FROM certificate_skills cs JOIN skill_merges m ON cs.skill_id = m.duplicate_id
+ON CONFLICT DO NOTHING;
+DELETE FROM certificate_skills WHERE skill_id IN (SELECT duplicate_id FROM skill_merges);
+
+INSERT INTO certificate_request_skills (certificate_request_id, skill_id)
+SELECT rs.certificate_request_id, m.keep_id
+FROM certificate_request_skills rs JOIN skill_merges m ON rs.skill_id = m.duplicate_id
+ON CONFLICT DO NOTHING;
+DELETE FROM certificate_request_skills WHERE skill_id IN (SELECT duplicate_id FROM skill_merges);
+
+UPDATE skills s SET endorsements = s.endorsements + merged.endorsements
+FROM (SELECT m.keep_id, sum(d.endorsements) AS endorsements
+      FROM skill_merges m JOIN skills d ON d.id = m.duplicate_id
+      GROUP BY m.keep_id) merged
+WHERE s.id = merged.keep_id;
+
+DELETE FROM skills WHERE id IN (SELECT duplicate_id FROM skill_merges);
+DROP TABLE skill_merges;
+
+-- Arbiter for SkillDictionary's inserts and index for its lower(name) lookups
+CREATE UNIQUE INDEX uk_skills_name_lower ON skills (lower(name));
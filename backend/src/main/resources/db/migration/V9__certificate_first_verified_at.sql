@@ -0,0 +1,5 @@
+-- When a certificate was first verified publicly. Set by a conditional update, so exactly
+-- one verification across all instances counts as the first. Certificates viewed before
+-- this column existed are taken as verified; their first verification time is unknown.
+ALTER TABLE certificates ADD COLUMN first_verified_at TIMESTAMP(6);
+UPDATE certificates SET first_verified_at = created_at WHERE views > 0;
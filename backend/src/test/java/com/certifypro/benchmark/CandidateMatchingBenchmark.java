@@ -0,0 +1,148 @@
+package com.certifypro.benchmark;
+
+import com.certifypro.config.DatabasePlatform;
+import com.certifypro.dto.response.CandidateMatchResponse;
+import com.certifypro.service.CandidateMatcher;
+import com.certifypro.service.SkillDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employer skill query against the in-memory candidate index. Candidates are loaded from
+ * an in-memory H2 database with the columns the index reads; skill IDs start high, as in
+ * a long-running database, since per-candidate memory and scan cost used to follow the
+ * largest skill ID.
+ *
+ * Run after {@code mvn test-compile} with {@code java -cp <test classpath>
+ * com.certifypro.benchmark.CandidateMatchingBenchmark}, or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidateMatchingBenchmark {
+
+    private static final int SKILLS = 5_000;
+    private static final long FIRST_SKILL_ID = 1_000_000;
+    private static final int CLAIMED_PER_CANDIDATE = 12;
+    private static final int VERIFIED_PER_CANDIDATE = 4;
+    private static final int QUERY_SKILLS = 5;
+
+    @Param({ "10000", "100000" })
+    private int candidates;
+
+    private SingleConnectionDataSource dataSource;
+    private CandidateMatcher matcher;
+    private List<String> query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:matching-benchmark", "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema(jdbcTemplate);
+        Random random = new Random(42);
+        insertCandidates(jdbcTemplate, random);
+
+        Map<String, Long> queryIds = new LinkedHashMap<>();
+        for (int i = 0; i < QUERY_SKILLS; i++) {
+            // Popular skills, so most candidates are scored rather than skipped
+            queryIds.put("skill-" + i, FIRST_SKILL_ID + popularSkill(random));
+        }
+        query = new ArrayList<>(queryIds.keySet());
+        SkillDictionary skillDictionary = new SkillDictionary(null, jdbcTemplate, new DatabasePlatform(jdbcTemplate)) {
+            @Override
+            public Map<String, Long> idsOf(Collection<String> names) {
+                return queryIds;
+            }
+        };
+        matcher = new CandidateMatcher(jdbcTemplate, skillDictionary);
+        matcher.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<CandidateMatchResponse> matchTop20() {
+        return matcher.match(query, 20);
+    }
+
+    private static void createSchema(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE users (id UUID PRIMARY KEY, username VARCHAR(50), role VARCHAR(20),"
+                + " enabled BOOLEAN, profile_visibility VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE skills (id BIGINT PRIMARY KEY, name VARCHAR(100), endorsements INT)");
+        jdbcTemplate.execute("CREATE TABLE user_skills (user_id UUID, skill_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE certificates (id UUID PRIMARY KEY, holder_id UUID, status VARCHAR(20),"
+                + " expiry_date DATE)");
+        jdbcTemplate.execute("CREATE TABLE certificate_skills (certificate_id UUID, skill_id BIGINT)");
+    }
+
+    private void insertCandidates(JdbcTemplate jdbcTemplate, Random random) {
+        List<Object[]> skills = new ArrayList<>();
+        for (int i = 0; i < SKILLS; i++) {
+            skills.add(new Object[] { FIRST_SKILL_ID + i, "skill-" + i, random.nextInt(50) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO skills VALUES (?, ?, ?)", skills);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> claimed = new ArrayList<>();
+        List<Object[]> certificates = new ArrayList<>();
+        List<Object[]> verified = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            UUID userId = UUID.randomUUID();
+            users.add(new Object[] { userId, "candidate-" + i });
+            for (int j = 0; j < CLAIMED_PER_CANDIDATE; j++) {
+                claimed.add(new Object[] { userId, FIRST_SKILL_ID + popularSkill(random) });
+            }
+            UUID certificateId = UUID.randomUUID();
+            certificates.add(new Object[] { certificateId, userId });
+            for (int j = 0; j < VERIFIED_PER_CANDIDATE; j++) {
+                verified.add(new Object[] { certificateId, FIRST_SKILL_ID + popularSkill(random) });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users VALUES (?, ?, 'INDIVIDUAL', TRUE, NULL)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO user_skills VALUES (?, ?)", claimed);
+        jdbcTemplate.batchUpdate("INSERT INTO certificates VALUES (?, ?, 'ACTIVE', NULL)", certificates);
+        jdbcTemplate.batchUpdate("INSERT INTO certificate_skills VALUES (?, ?)", verified);
+    }
+
+    // Skewed towards low numbers, as a few skills are held by many candidates
+    private static int popularSkill(Random random) {
+        double u = random.nextDouble();
+        return (int) (SKILLS * u * u * u);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CandidateMatchingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
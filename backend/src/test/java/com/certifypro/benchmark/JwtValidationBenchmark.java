@@ -0,0 +1,85 @@
+package com.certifypro.benchmark;
+
+import com.certifypro.entity.User;
+import com.certifypro.entity.UserRole;
+import com.certifypro.security.AuthenticatedUser;
+import com.certifypro.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token check done by JwtAuthenticationFilter for every request. {@code perRequestParser}
+ * is the old path: key and parser rebuilt per call, token parsed once to validate and
+ * again to read the subject. {@code sharedParserSinglePass} is the current one.
+ *
+ * Run after {@code mvn test-compile} with {@code java -cp <test classpath>
+ * com.certifypro.benchmark.JwtValidationBenchmark}, or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, TimeUnit.HOURS.toMillis(1));
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("benchmark")
+                .role(UserRole.INDIVIDUAL)
+                .build();
+        token = tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String perRequestParser() {
+        if (parseWithNewParser(token) == null) {
+            return null;
+        }
+        return parseWithNewParser(token).getSubject();
+    }
+
+    @Benchmark
+    public Optional<AuthenticatedUser> sharedParserSinglePass() {
+        return tokenProvider.parseClaims(token).flatMap(tokenProvider::getPrincipal);
+    }
+
+    private static Claims parseWithNewParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtValidationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
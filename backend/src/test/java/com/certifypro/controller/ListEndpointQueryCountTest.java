@@ -0,0 +1,123 @@
+package com.certifypro.controller;
+
+import com.certifypro.dto.request.CertificateRequest;
+import com.certifypro.dto.request.CreateCertificateRequestDto;
+import com.certifypro.dto.request.RegisterRequest;
+import com.certifypro.entity.UserRole;
+import com.certifypro.service.AuthService;
+import com.certifypro.service.CertificateRequestService;
+import com.certifypro.service.CertificateService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * List endpoints must run a fixed number of statements however many rows they return:
+ * the user lookup, one projection query and one query for the skill names of the page.
+ * Related users and skills are never loaded as entities row by row.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListEndpointQueryCountTest {
+
+    private static final int ROWS = 12;
+    private static final long STATEMENTS_PER_LIST = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CertificateService certificateService;
+
+    @Autowired
+    private CertificateRequestService certificateRequestService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void createRows() {
+        register("issuer", UserRole.ISSUER);
+        register("holder", UserRole.INDIVIDUAL);
+        for (int i = 0; i < ROWS; i++) {
+            CertificateRequest certificate = new CertificateRequest();
+            certificate.setName("Certificate " + i);
+            certificate.setRecipientEmail("holder@example.com");
+            certificate.setIssuedDate(LocalDate.now());
+            certificate.setSkills(Set.of("Skill " + i, "Shared"));
+            certificateService.issueCertificate(certificate, "issuer");
+
+            CreateCertificateRequestDto request = new CreateCertificateRequestDto();
+            request.setIssuerUsername("issuer");
+            request.setRequestMessage("Request " + i);
+            request.setSkills(Set.of("Skill " + i, "Shared"));
+            certificateRequestService.createRequest("holder", request);
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics.clear();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "/api/certificates/my-certificates, holder, INDIVIDUAL, " + ROWS,
+            "/api/certificates/my-certificates?limit=5, holder, INDIVIDUAL, 5",
+            "/api/certificates/issued, issuer, ISSUER, " + ROWS,
+            "/api/certificates/issued?limit=5, issuer, ISSUER, 5",
+            "/api/certificate-requests/my-requests, holder, INDIVIDUAL, " + ROWS,
+            "/api/certificate-requests/pending, issuer, ISSUER, " + ROWS,
+            "/api/certificate-requests/pending?limit=5, issuer, ISSUER, 5",
+            "/api/certificate-requests/all, issuer, ISSUER, " + ROWS,
+            "/api/certificate-requests/all?limit=5, issuer, ISSUER, 5"
+    })
+    void listRunsFixedNumberOfStatements(String path, String username, String role, int expectedRows)
+            throws Exception {
+        mockMvc.perform(get(path).with(user(username).roles(role)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(expectedRows))
+                .andExpect(jsonPath("$.data[0].skills.length()").value(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_LIST);
+        // Only the authenticated user; rows are projections
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    private void register(String username, UserRole role) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password123");
+        request.setRole(role);
+        authService.register(request);
+    }
+}
@@ -0,0 +1,124 @@
+package com.certifypro.security;
+
+import com.certifypro.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private static final String EMAIL = "victim@example.com";
+    private static final String CLIENT = "10.0.0.1";
+    private static final String ATTACKER = "10.0.0.66";
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    // 8 per IP per 80s, 3 per account and IP per 30s, 6 per account per 60s: one token every 10s each
+    private final LoginRateLimiter limiter = new LoginRateLimiter(8, Duration.ofSeconds(80), 3,
+            Duration.ofSeconds(30), 6, Duration.ofSeconds(60), 1000, new SimpleMeterRegistry(), now::get);
+
+    @Test
+    void allowsABurstOfCapacityThenRejectsWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(CLIENT, EMAIL);
+        }
+
+        assertThatThrownBy(() -> limiter.acquire(CLIENT, EMAIL))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(10));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(CLIENT, EMAIL);
+        }
+
+        advance(Duration.ofSeconds(9));
+        assertThatThrownBy(() -> limiter.acquire(CLIENT, EMAIL))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+
+        advance(Duration.ofSeconds(1));
+        limiter.acquire(CLIENT, EMAIL);
+        assertThatThrownBy(() -> limiter.acquire(CLIENT, EMAIL)).isInstanceOf(TooManyRequestsException.class);
+
+        // A full refill period restores the whole burst, not more
+        advance(Duration.ofMinutes(5));
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(CLIENT, EMAIL);
+        }
+        assertThatThrownBy(() -> limiter.acquire(CLIENT, EMAIL)).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void successfulLoginsDoNotCountAgainstTheAccount() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(CLIENT, EMAIL);
+            limiter.succeeded(CLIENT, EMAIL);
+        }
+
+        // The account's burst is still whole
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(CLIENT, EMAIL);
+        }
+        assertThatThrownBy(() -> limiter.acquire(CLIENT, EMAIL))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(10));
+    }
+
+    @Test
+    void failuresFromAnotherAddressDoNotLockOutTheAccountBelowTheGlobalCap() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(ATTACKER, EMAIL);
+        }
+        assertThatThrownBy(() -> limiter.acquire(ATTACKER, EMAIL)).isInstanceOf(TooManyRequestsException.class);
+
+        assertThatCode(() -> limiter.acquire(CLIENT, EMAIL)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void accountWideCapAppliesAcrossAddresses() {
+        for (int i = 0; i < 6; i++) {
+            limiter.acquire("10.0.1." + i, EMAIL);
+        }
+
+        assertThatThrownBy(() -> limiter.acquire(CLIENT, EMAIL))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(10));
+
+        advance(Duration.ofSeconds(10));
+        assertThatCode(() -> limiter.acquire(CLIENT, EMAIL)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void normalizesTheAccountKey() {
+        limiter.acquire(CLIENT, "Victim@Example.com");
+        limiter.acquire(CLIENT, " victim@example.com ");
+        limiter.acquire(CLIENT, EMAIL);
+
+        assertThatThrownBy(() -> limiter.acquire(CLIENT, "VICTIM@EXAMPLE.COM"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void limitsEachAddressRegardlessOfAccount() {
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire(CLIENT, "user" + i + "@example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.acquire(CLIENT, "other@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.acquire(ATTACKER, "other@example.com")).doesNotThrowAnyException();
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,116 @@
+package com.certifypro.security;
+
+import com.certifypro.exception.UnauthorizedException;
+import com.certifypro.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Single use and reuse detection against the database, whether or not the store still
+ * holds the presented token in memory.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenStoreTest {
+
+    private static final long REFRESH_EXPIRATION = 60_000;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void rotatesWithinTheFamily() {
+        UUID userId = UUID.randomUUID();
+        String first = refreshTokenStore.issue(userId, null);
+
+        RefreshTokenStore.Entry consumed = refreshTokenStore.consume(first);
+        String second = refreshTokenStore.issue(userId, consumed.familyId());
+        RefreshTokenStore.Entry rotated = refreshTokenStore.consume(second);
+
+        assertThat(consumed.userId()).isEqualTo(userId);
+        assertThat(rotated.familyId()).isEqualTo(consumed.familyId());
+        assertThat(rotated.id()).isNotEqualTo(consumed.id());
+    }
+
+    @Test
+    void reuseRevokesTheLiveSuccessor() {
+        UUID userId = UUID.randomUUID();
+        String first = refreshTokenStore.issue(userId, null);
+        String second = refreshTokenStore.issue(userId, refreshTokenStore.consume(first).familyId());
+
+        assertThatThrownBy(() -> refreshTokenStore.consume(first))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Refresh token is no longer valid");
+        assertThatThrownBy(() -> refreshTokenStore.consume(second))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Refresh token is no longer valid");
+    }
+
+    @Test
+    void detectsReuseOfATokenConsumedByAnotherInstance() {
+        RefreshTokenStore otherInstance = newStore(100);
+        UUID userId = UUID.randomUUID();
+        String first = refreshTokenStore.issue(userId, null);
+        String second = refreshTokenStore.issue(userId, otherInstance.consume(first).familyId());
+
+        // This instance still holds the token in memory; the database says it was used
+        assertThatThrownBy(() -> refreshTokenStore.consume(first))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Refresh token is no longer valid");
+        assertThatThrownBy(() -> otherInstance.consume(second))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void revokingAnyTokenOfAFamilyRevokesTheCurrentOne() {
+        UUID userId = UUID.randomUUID();
+        String first = refreshTokenStore.issue(userId, null);
+        String second = refreshTokenStore.issue(userId, refreshTokenStore.consume(first).familyId());
+        String otherLogin = refreshTokenStore.issue(userId, null);
+
+        refreshTokenStore.revoke(first);
+
+        assertThatThrownBy(() -> refreshTokenStore.consume(second))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(refreshTokenStore.consume(otherLogin).userId()).isEqualTo(userId);
+    }
+
+    @Test
+    void evictedTokensAreServedFromTheTable() {
+        RefreshTokenStore store = newStore(1);
+        UUID userId = UUID.randomUUID();
+        String[] issued = new String[20];
+        for (int i = 0; i < issued.length; i++) {
+            issued[i] = store.issue(userId, null);
+        }
+
+        for (String token : issued) {
+            assertThat(store.consume(token).userId()).isEqualTo(userId);
+        }
+        assertThatThrownBy(() -> store.consume(issued[0]))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Refresh token is no longer valid");
+    }
+
+    @Test
+    void rejectsUnknownTokens() {
+        assertThatThrownBy(() -> refreshTokenStore.consume("not-a-token"))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Invalid refresh token");
+    }
+
+    private RefreshTokenStore newStore(long maxSize) {
+        return new RefreshTokenStore(refreshTokenRepository, REFRESH_EXPIRATION, maxSize, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,177 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.request.CertificateRequest;
+import com.certifypro.dto.request.RegisterRequest;
+import com.certifypro.dto.request.UpdateProfileRequest;
+import com.certifypro.dto.response.CandidateMatchResponse;
+import com.certifypro.entity.ProfileVisibility;
+import com.certifypro.entity.UserRole;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CandidateMatcherTest {
+
+    @Autowired
+    private CandidateMatcher candidateMatcher;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CertificateService certificateService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void createCandidates() {
+        register("match-issuer", UserRole.ISSUER);
+        candidate("match-alice", Set.of(), Set.of("Match-Alpha", "Match-Beta"));
+        candidate("match-bob", Set.of("Match-Beta"), Set.of("Match-Alpha"));
+        candidate("match-carol", Set.of("Match-Alpha", "Match-Beta"), Set.of());
+        candidate("match-frank", Set.of("Match-Alpha", "Match-Beta"), Set.of());
+        candidate("match-dave", Set.of("Match-Gamma"), Set.of());
+        candidate("match-erin", Set.of(), Set.of("Match-Alpha", "Match-Beta"));
+        candidate("match-gina", Set.of(), Set.of("Match-Gamma"));
+        candidate("match-hank", Set.of(), Set.of("Match-Delta"));
+        candidate("match-ivan", Set.of("Match-Epsilon"), Set.of());
+
+        UpdateProfileRequest hidden = new UpdateProfileRequest();
+        hidden.setProfileVisibility(ProfileVisibility.PRIVATE);
+        userService.updateProfile("match-erin", hidden);
+    }
+
+    @Test
+    void ranksVerifiedAboveClaimedAndBreaksTiesByUsername() {
+        List<CandidateMatchResponse> matches = candidateMatcher.match(List.of("match-alpha", "MATCH-BETA"), 50);
+
+        assertThat(matches).extracting(CandidateMatchResponse::getUsername)
+                .containsExactly("match-alice", "match-bob", "match-carol", "match-frank");
+        assertThat(matches).extracting(CandidateMatchResponse::getScore).containsExactly(1.0, 0.75, 0.5, 0.5);
+        assertThat(matches.get(1).getVerifiedSkills()).containsExactly("match-alpha");
+        assertThat(matches.get(1).getClaimedSkills()).containsExactly("MATCH-BETA");
+
+        assertThat(candidateMatcher.match(List.of("Match-Alpha", "Match-Beta"), 2))
+                .extracting(CandidateMatchResponse::getUsername)
+                .containsExactly("match-alice", "match-bob");
+        assertThat(candidateMatcher.match(List.of("No-Such-Skill"), 50)).isEmpty();
+    }
+
+    @Test
+    void weighsSkillsByEndorsements() {
+        jdbcTemplate.update("UPDATE skills SET endorsements = 10 WHERE name = 'Match-Delta'");
+        candidateMatcher.refresh();
+
+        List<CandidateMatchResponse> matches = candidateMatcher.match(List.of("Match-Gamma", "Match-Delta"), 50);
+
+        double delta = 1 + Math.log(11);
+        assertThat(matches).extracting(CandidateMatchResponse::getUsername)
+                .containsExactly("match-hank", "match-gina", "match-dave");
+        assertThat(matches.get(0).getScore()).isCloseTo(delta / (1 + delta), within(1e-9));
+        assertThat(matches.get(2).getScore()).isCloseTo(CandidateMatcher.CLAIMED_WEIGHT / (1 + delta), within(1e-9));
+    }
+
+    @Test
+    void keepsUpdatesMadeWhileARebuildReadsTheDatabase() {
+        HookedJdbcTemplate hooked = new HookedJdbcTemplate(dataSource);
+        CandidateMatcher matcher = new CandidateMatcher(hooked, skillDictionary);
+        matcher.refresh();
+        UUID carol = userId("match-carol");
+        UUID ivan = userId("match-ivan");
+        Long epsilon = skillDictionary.idsOf(List.of("Match-Epsilon")).get("Match-Epsilon");
+        assertThat(matcher.match(List.of("Match-Epsilon"), 50)).extracting(CandidateMatchResponse::getUsername)
+                .containsExactly("match-ivan");
+
+        // The rebuild has read every candidate and skill by the time these land
+        hooked.afterVerifiedLoad = () -> {
+            matcher.skillsVerified(Map.of(carol, List.of(epsilon)));
+            jdbcTemplate.update("UPDATE users SET enabled = false WHERE id = ?", ivan);
+            matcher.candidateChanged(ivan);
+        };
+        matcher.refresh();
+
+        List<CandidateMatchResponse> matches = matcher.match(List.of("Match-Epsilon"), 50);
+        assertThat(matches).extracting(CandidateMatchResponse::getUsername).containsExactly("match-carol");
+        assertThat(matches.get(0).getVerifiedSkills()).containsExactly("Match-Epsilon");
+    }
+
+    private void candidate(String username, Set<String> claimed, Set<String> verified) {
+        register(username, UserRole.INDIVIDUAL);
+        if (!claimed.isEmpty()) {
+            UpdateProfileRequest profile = new UpdateProfileRequest();
+            profile.setSkills(claimed);
+            userService.updateProfile(username, profile);
+        }
+        if (!verified.isEmpty()) {
+            CertificateRequest certificate = new CertificateRequest();
+            certificate.setName("Certificate for " + username);
+            certificate.setRecipientEmail(username + "@example.com");
+            certificate.setIssuedDate(LocalDate.now());
+            certificate.setSkills(verified);
+            certificateService.issueCertificate(certificate, "match-issuer");
+        }
+    }
+
+    private void register(String username, UserRole role) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password123");
+        request.setRole(role);
+        authService.register(request);
+    }
+
+    private UUID userId(String username) {
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", UUID.class, username);
+    }
+
+    /**
+     * Runs a hook once, right after the rebuild has read the verified skills
+     */
+    private static final class HookedJdbcTemplate extends JdbcTemplate {
+
+        private Runnable afterVerifiedLoad;
+
+        private HookedJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            super.query(sql, rch);
+            if (afterVerifiedLoad != null && sql.startsWith("SELECT DISTINCT c.holder_id")) {
+                Runnable hook = afterVerifiedLoad;
+                afterVerifiedLoad = null;
+                hook.run();
+            }
+        }
+    }
+}
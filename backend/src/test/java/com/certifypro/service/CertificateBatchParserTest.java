@@ -0,0 +1,116 @@
+package com.certifypro.service;
+
+import com.certifypro.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CertificateBatchParserTest {
+
+    private static final MediaType CSV = MediaType.parseMediaType(CertificateBatchParser.CSV_VALUE);
+    private static final MediaType NDJSON = MediaType.parseMediaType(CertificateBatchParser.NDJSON_VALUE);
+
+    private final CertificateBatchParser parser = new CertificateBatchParser(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void readsQuotedCommasAndDoubledQuotes() {
+        List<CertificateBatchParser.Row> rows = parse(CSV, "name,recipientEmail,issuedDate,description,skills\n"
+                + "\"Java, Advanced\",a@example.com,2024-01-01,\"Said \"\"well done\"\"\",Java; SQL\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).error()).isNull();
+        assertThat(rows.get(0).request().getName()).isEqualTo("Java, Advanced");
+        assertThat(rows.get(0).request().getDescription()).isEqualTo("Said \"well done\"");
+        assertThat(rows.get(0).request().getIssuedDate()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(rows.get(0).request().getSkills()).containsExactly("Java", "SQL");
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotedFields() {
+        List<CertificateBatchParser.Row> rows = parse(CSV, """
+                name,recipientEmail,issuedDate,description
+                Java,a@example.com,2024-01-01,"First line
+
+                Third line"
+                SQL,b@example.com,2024-02-01,
+                Go,c@example.com,2024-13-01,
+                """);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request().getDescription()).isEqualTo("First line\n\nThird line");
+        assertThat(rows.get(1).request().getRecipientEmail()).isEqualTo("b@example.com");
+        assertThat(rows.get(2).error()).isEqualTo("Invalid issueddate on CSV line 6: 2024-13-01");
+    }
+
+    @Test
+    void ignoresByteOrderMark() {
+        List<CertificateBatchParser.Row> rows = parse(CSV, "\uFEFFname,recipientEmail,issuedDate\r\n"
+                + "Java,a@example.com,2024-01-01\r\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).request().getName()).isEqualTo("Java");
+    }
+
+    @Test
+    void reportsBadRowsWithoutFailingTheUpload() {
+        List<CertificateBatchParser.Row> rows = parse(CSV, """
+                name,recipientEmail,issuedDate,expiryDate,skills
+                Java,a@example.com,yesterday,2025-01-01,
+                SQL,b@example.com,2024-01-01,never,SQL
+                Go,c@example.com,2024-01-01,,Go
+                Rust,d@example.com,2024-01-01,,"Rust
+                """);
+
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).error()).isEqualTo("Invalid issueddate on CSV line 2: yesterday");
+        assertThat(rows.get(0).request().getSkills()).isEmpty();
+        assertThat(rows.get(1).error()).isEqualTo("Invalid expirydate on CSV line 3: never");
+        assertThat(rows.get(2).error()).isNull();
+        assertThat(rows.get(2).request().getExpiryDate()).isNull();
+        assertThat(rows.get(3).request()).isNull();
+        assertThat(rows.get(3).error()).isEqualTo("Unterminated quoted field on CSV line 5");
+    }
+
+    @Test
+    void rejectsHeaderWithoutRequiredColumns() {
+        assertThatThrownBy(() -> parse(CSV, "name,issuedDate\nJava,2024-01-01\n"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("CSV header is missing required column: recipientemail");
+        assertThatThrownBy(() -> parse(CSV, "\n\n"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("CSV body is empty");
+    }
+
+    @Test
+    void readsNdjsonAndReportsUnreadableRows() {
+        List<CertificateBatchParser.Row> rows = parse(NDJSON, """
+                {"name":"Java","recipientEmail":"a@example.com","issuedDate":"2024-01-01","skills":["Java"]}
+                {"name":"SQL","recipientEmail":"b@example.com","issuedDate":"not a date"}
+                {"name":"Go","recipientEmail":"c@example.com","issuedDate":"2024-01-01"}
+                """);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request().getSkills()).containsExactly("Java");
+        assertThat(rows.get(1).request()).isNull();
+        assertThat(rows.get(1).error()).startsWith("Invalid row: ");
+        assertThat(rows.get(2).request().getName()).isEqualTo("Go");
+    }
+
+    private List<CertificateBatchParser.Row> parse(MediaType contentType, String body) {
+        Iterator<CertificateBatchParser.Row> iterator = parser.parse(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), contentType);
+        List<CertificateBatchParser.Row> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,101 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.request.CertificateRequest;
+import com.certifypro.dto.request.RegisterRequest;
+import com.certifypro.dto.response.CertificateResponse;
+import com.certifypro.dto.response.CursorPage;
+import com.certifypro.entity.UserRole;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset pages must neither skip nor repeat certificates that share a creation time,
+ * which is common for certificates issued in one batch.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CertificateKeysetPaginationTest {
+
+    private static final String ISSUER = "keyset-issuer";
+    private static final String HOLDER = "keyset-holder";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CertificateService certificateService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> issued = new ArrayList<>();
+
+    @BeforeAll
+    void issueCertificatesWithSharedTimestamps() {
+        register(ISSUER, UserRole.ISSUER);
+        register(HOLDER, UserRole.INDIVIDUAL);
+        LocalDateTime earlier = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < 9; i++) {
+            CertificateRequest request = new CertificateRequest();
+            request.setName("Certificate " + i);
+            request.setRecipientEmail(HOLDER + "@example.com");
+            request.setIssuedDate(LocalDate.of(2024, 1, 1));
+            request.setSkills(Set.of());
+            UUID id = certificateService.issueCertificate(request, ISSUER).getId();
+            issued.add(id);
+            // Two groups of equal timestamps: six at the later one, three at the earlier
+            jdbcTemplate.update("UPDATE certificates SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(i < 6 ? earlier.plusHours(1) : earlier), id);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 4, 5, 9, 50 })
+    void pagesCoverEveryCertificateOnce(int limit) {
+        List<UUID> holderPages = new ArrayList<>();
+        List<UUID> issuerPages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<CertificateResponse> page = certificateService.getUserCertificates(HOLDER, cursor, limit);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(limit);
+            page.getItems().forEach(certificate -> holderPages.add(certificate.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        do {
+            CursorPage<CertificateResponse> page = certificateService.getIssuedCertificates(ISSUER, cursor, limit);
+            page.getItems().forEach(certificate -> issuerPages.add(certificate.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(holderPages).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(issued);
+        assertThat(issuerPages).containsExactlyElementsOf(holderPages);
+        // Newer timestamp group first
+        assertThat(holderPages.subList(0, 6)).containsExactlyInAnyOrderElementsOf(issued.subList(0, 6));
+    }
+
+    private void register(String username, UserRole role) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password123");
+        request.setRole(role);
+        authService.register(request);
+    }
+}
@@ -0,0 +1,132 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.response.RevocationDeltaResponse;
+import com.certifypro.dto.response.RevocationSnapshotResponse;
+import com.certifypro.entity.CertificateStatus;
+import com.certifypro.repository.CertificateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RevocationRegistryTest {
+
+    private final CertificateRepository certificateRepository = mock(CertificateRepository.class);
+
+    private RevocationRegistry registry;
+
+    @BeforeEach
+    void createRegistry() {
+        registry = new RevocationRegistry(certificateRepository);
+        ReflectionTestUtils.setField(registry, "deltaLogSize", 3);
+    }
+
+    @Test
+    void setsBitsAcrossWordsAndGrowsTheBitmap() {
+        registry.markRevoked(0L);
+        registry.markRevoked(63L);
+        registry.markRevoked(64L);
+        registry.markRevoked(1000L);
+
+        assertThat(registry.isRevoked(0L)).isTrue();
+        assertThat(registry.isRevoked(63L)).isTrue();
+        assertThat(registry.isRevoked(64L)).isTrue();
+        assertThat(registry.isRevoked(1000L)).isTrue();
+        assertThat(registry.isRevoked(1L)).isFalse();
+        assertThat(registry.isRevoked(999L)).isFalse();
+        assertThat(registry.isRevoked(1_000_000L)).isFalse();
+        assertThat(registry.isRevoked(-1L)).isFalse();
+        assertThat(registry.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void snapshotIsLittleEndianBitmapAtCurrentVersion() {
+        registry.markRevoked(1L);
+        registry.markRevoked(65L);
+
+        RevocationSnapshotResponse snapshot = registry.getSnapshot();
+
+        assertThat(snapshot.getEpoch()).isEqualTo(registry.getEpoch());
+        assertThat(snapshot.getVersion()).isEqualTo(2);
+        ByteBuffer bitmap = ByteBuffer.wrap(Base64.getDecoder().decode(snapshot.getBitmap()))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(bitmap.getLong()).isEqualTo(1L << 1);
+        assertThat(bitmap.getLong()).isEqualTo(1L << 1);
+        assertThat(bitmap.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void refreshOnlyAdvancesVersionForNewRevocations() {
+        when(certificateRepository.findSerialNumbersByStatus(CertificateStatus.REVOKED))
+                .thenReturn(Arrays.asList(5L, 7L, null));
+        registry.refresh();
+        assertThat(registry.getVersion()).isEqualTo(2);
+
+        registry.markRevoked(5L);
+        registry.refresh();
+        assertThat(registry.getVersion()).isEqualTo(2);
+
+        when(certificateRepository.findSerialNumbersByStatus(CertificateStatus.REVOKED))
+                .thenReturn(List.of(5L, 7L, 9L));
+        registry.refresh();
+        assertThat(registry.getVersion()).isEqualTo(3);
+        assertThat(registry.getDelta(registry.getEpoch(), 2).getRevokedSerials()).containsExactly(9L);
+    }
+
+    @Test
+    void deltaReturnsSerialsAfterTheClientVersion() {
+        registry.markRevoked(10L);
+        registry.markRevoked(20L);
+        registry.markRevoked(30L);
+
+        RevocationDeltaResponse delta = registry.getDelta(registry.getEpoch(), 1);
+
+        assertThat(delta.isSnapshotRequired()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(3);
+        assertThat(delta.getRevokedSerials()).containsExactly(20L, 30L);
+
+        RevocationDeltaResponse upToDate = registry.getDelta(registry.getEpoch(), 3);
+        assertThat(upToDate.isSnapshotRequired()).isFalse();
+        assertThat(upToDate.getRevokedSerials()).isEmpty();
+    }
+
+    @Test
+    void emptyRegistryIsUpToDateAtVersionZero() {
+        RevocationDeltaResponse delta = registry.getDelta(registry.getEpoch(), 0);
+
+        assertThat(delta.isSnapshotRequired()).isFalse();
+        assertThat(delta.getRevokedSerials()).isEmpty();
+        assertThat(registry.getDelta(registry.getEpoch(), 1).isSnapshotRequired()).isTrue();
+    }
+
+    @Test
+    void requiresSnapshotForOtherEpochOrTrimmedLog() {
+        for (long serial = 1; serial <= 5; serial++) {
+            registry.markRevoked(serial);
+        }
+
+        // Log keeps versions 3 to 5, so a client at version 2 can still catch up
+        assertThat(registry.getDelta(registry.getEpoch(), 2).getRevokedSerials()).containsExactly(3L, 4L, 5L);
+        assertThat(registry.getDelta(registry.getEpoch(), 1).isSnapshotRequired()).isTrue();
+        assertThat(registry.getDelta(registry.getEpoch(), 6).isSnapshotRequired()).isTrue();
+
+        RevocationDeltaResponse otherEpoch = registry.getDelta("previous-process", 5);
+        assertThat(otherEpoch.isSnapshotRequired()).isTrue();
+        assertThat(otherEpoch.getEpoch()).isEqualTo(registry.getEpoch());
+        assertThat(otherEpoch.getRevokedSerials()).isEmpty();
+    }
+
+    @Test
+    void epochDiffersBetweenInstances() {
+        assertThat(new RevocationRegistry(certificateRepository).getEpoch()).isNotEqualTo(registry.getEpoch());
+    }
+}
@@ -0,0 +1,81 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.request.CertificateRequest;
+import com.certifypro.dto.request.RegisterRequest;
+import com.certifypro.dto.response.CertificateSearchResult;
+import com.certifypro.entity.ProfileVisibility;
+import com.certifypro.entity.UserRole;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Certificate search on H2, which takes the substring fallback
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchServiceTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CertificateService certificateService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void createCertificates() {
+        register("search-issuer", UserRole.ISSUER);
+        for (String holder : new String[] { "search-public", "search-private", "search-disabled" }) {
+            register(holder, UserRole.INDIVIDUAL);
+            CertificateRequest certificate = new CertificateRequest();
+            certificate.setName("Quantum Searchable " + holder);
+            certificate.setRecipientEmail(holder + "@example.com");
+            certificate.setIssuedDate(LocalDate.now());
+            certificate.setSkills(Set.of("Search"));
+            certificateService.issueCertificate(certificate, "search-issuer");
+        }
+        jdbcTemplate.update("UPDATE users SET profile_visibility = ? WHERE username = 'search-private'",
+                ProfileVisibility.PRIVATE.name());
+        jdbcTemplate.update("UPDATE users SET enabled = false WHERE username = 'search-disabled'");
+    }
+
+    @Test
+    void returnsOnlyCertificatesOfPublicEnabledHolders() {
+        assertThat(searchService.searchCertificates("quantum searchable", null, 50).getItems())
+                .extracting(CertificateSearchResult::getCertificate)
+                .extracting("holderUsername")
+                .containsExactly("search-public");
+    }
+
+    @Test
+    void highlightsTheMatch() {
+        CertificateSearchResult result = searchService.searchCertificates("searchable", null, 50).getItems().get(0);
+
+        assertThat(result.getHighlight()).contains("<mark>Searchable</mark>");
+    }
+
+    private void register(String username, UserRole role) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password123");
+        request.setRole(role);
+        authService.register(request);
+    }
+}
@@ -0,0 +1,113 @@
+package com.certifypro.service;
+
+import com.certifypro.entity.Skill;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs on H2, so new names go through the generic insert rather than ON CONFLICT. Each
+ * test uses its own names because skills are never deleted.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillDictionaryTest {
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void mergesNamesThatDifferOnlyInCaseAndSpacing() {
+        Map<String, Skill> skills = skillDictionary.resolve(List.of("Kotlin-SD", " kotlin-sd ", "KOTLIN-SD", " "));
+
+        assertThat(skills).containsOnlyKeys("Kotlin-SD", " kotlin-sd ", "KOTLIN-SD");
+        assertThat(skills.values()).extracting(Skill::getId).containsOnly(skills.get("Kotlin-SD").getId());
+        assertThat(skills.get("KOTLIN-SD").getName()).isEqualTo("Kotlin-SD");
+        assertThat(rowsNamed("kotlin-sd")).isEqualTo(1);
+    }
+
+    @Test
+    void knownNamesResolveToTheSameRowWithoutInserting() {
+        Long id = skillDictionary.resolve(List.of("Scala-SD")).get("Scala-SD").getId();
+
+        assertThat(skillDictionary.idsOf(List.of("scala-sd", "SCALA-SD ", "unknown-sd")))
+                .containsExactly(Map.entry("scala-sd", id), Map.entry("SCALA-SD ", id));
+        assertThat(skillDictionary.resolve(List.of("sCaLa-sd")).get("sCaLa-sd").getId()).isEqualTo(id);
+        assertThat(rowsNamed("scala-sd")).isEqualTo(1);
+    }
+
+    @Test
+    void readsRowsInsertedElsewhereInAnotherCase() {
+        jdbcTemplate.update("INSERT INTO skills (name, endorsements) VALUES ('GraphQL-SD', 3)");
+
+        Skill skill = skillDictionary.resolve(List.of("graphql-sd")).get("graphql-sd");
+
+        assertThat(skill.getName()).isEqualTo("GraphQL-SD");
+        assertThat(skill.getEndorsements()).isEqualTo(3);
+        assertThat(rowsNamed("graphql-sd")).isEqualTo(1);
+    }
+
+    @Test
+    void losingAConcurrentInsertReadsTheWinnersRow() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CompletableFuture<Void> winner = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    jdbcTemplate.update("INSERT INTO skills (name, endorsements) VALUES ('Race-SD', 0)");
+                    inserted.countDown();
+                    sleep(300);
+                }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The winner's row is not visible yet, so this insert waits on the unique index and then fails
+        Skill skill = skillDictionary.resolve(List.of("Race-SD")).get("Race-SD");
+        winner.get(5, TimeUnit.SECONDS);
+
+        assertThat(skill).isNotNull();
+        assertThat(skill.getId()).isEqualTo(
+                jdbcTemplate.queryForObject("SELECT id FROM skills WHERE name = 'Race-SD'", Long.class));
+        assertThat(rowsNamed("race-sd")).isEqualTo(1);
+    }
+
+    @Test
+    void forgetsSkillsCreatedInARolledBackTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(skillDictionary.resolve(List.of("Elixir-SD")).get("Elixir-SD")).isNotNull();
+            status.setRollbackOnly();
+        });
+
+        assertThat(skillDictionary.idsOf(List.of("Elixir-SD"))).isEmpty();
+        assertThat(rowsNamed("elixir-sd")).isZero();
+
+        Skill skill = skillDictionary.resolve(List.of("Elixir-SD")).get("Elixir-SD");
+        assertThat(skillDictionary.idsOf(List.of("elixir-sd"))).containsEntry("elixir-sd", skill.getId());
+    }
+
+    private int rowsNamed(String key) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM skills WHERE lower(name) = ?", Integer.class, key);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
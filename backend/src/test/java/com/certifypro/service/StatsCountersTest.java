@@ -0,0 +1,170 @@
+package com.certifypro.service;
+
+import com.certifypro.dto.request.CertificateRequest;
+import com.certifypro.dto.request.RegisterRequest;
+import com.certifypro.dto.response.CertificateResponse;
+import com.certifypro.entity.UserRole;
+import com.certifypro.repository.CertificateRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counters on H2, so flushes take the UPDATE-then-INSERT path. Assertions use this class's
+ * issuer scopes, since other test classes register users and issue certificates too.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatsCountersTest {
+
+    private static final String ISSUER = "stats-issuer";
+    private static final String SCOPE = StatsCounters.issuerScope(ISSUER);
+
+    @Autowired
+    private StatsCounters statsCounters;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CertificateService certificateService;
+
+    @Autowired
+    private CertificateRepository certificateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void createIssuer() {
+        register(ISSUER, UserRole.ISSUER);
+        register("stats-holder", UserRole.INDIVIDUAL);
+    }
+
+    @Test
+    void readsTheSameCountsBeforeAndAfterAFlush() {
+        long before = totalIssued();
+        issue("Before flush");
+        issue("Before flush again");
+
+        assertThat(totalIssued()).isEqualTo(before + 2);
+        assertThat(todayIssued()).isGreaterThanOrEqualTo(2);
+        statsCounters.flush();
+        assertThat(totalIssued()).isEqualTo(before + 2);
+        assertThat(storedTotal(SCOPE, StatsCounters.CERTIFICATES_ISSUED)).isEqualTo(before + 2);
+    }
+
+    @Test
+    void ignoresEventsOfRolledBackTransactions() {
+        long before = totalIssued();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            statsCounters.certificatesIssued(ISSUER, 3);
+            status.setRollbackOnly();
+        });
+
+        assertThat(totalIssued()).isEqualTo(before);
+    }
+
+    @Test
+    void countsOnlyTheFirstVerificationOfACertificate() {
+        String scope = StatsCounters.issuerScope("stats-verify-issuer");
+        register("stats-verify-issuer", UserRole.ISSUER);
+        CertificateResponse certificate = issue("stats-verify-issuer", "Verified twice");
+        CertificateResponse elsewhere = issue("stats-verify-issuer", "Verified elsewhere first");
+
+        certificateService.verifyCertificateByVerificationId(certificate.getVerificationId());
+        certificateService.verifyCertificateByVerificationId(certificate.getVerificationId());
+        // Another instance recorded the first verification; this one must not count it again
+        certificateRepository.markFirstVerified(elsewhere.getId(), LocalDateTime.now());
+        certificateService.verifyCertificateByVerificationId(elsewhere.getVerificationId());
+
+        StatsCounters.Snapshot snapshot = statsCounters.read(scope, LocalDate.now());
+        assertThat(snapshot.total(StatsCounters.CERTIFICATES_VERIFIED)).isEqualTo(1);
+        assertThat(snapshot.total(StatsCounters.VERIFICATIONS)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT first_verified_at FROM certificates WHERE id = ?",
+                LocalDateTime.class, certificate.getId())).isNotNull();
+    }
+
+    @Test
+    void reconcileCorrectsTotalsThatDriftedFromTheTables() {
+        String scope = StatsCounters.issuerScope("stats-drift-issuer");
+        register("stats-drift-issuer", UserRole.ISSUER);
+        CertificateResponse revoked = issue("stats-drift-issuer", "Revoked");
+        issue("stats-drift-issuer", "Kept");
+        certificateService.revokeCertificate(revoked.getId(), "stats-drift-issuer");
+        statsCounters.flush();
+
+        // A lost flush, a doubled one and a revocation missing altogether
+        jdbcTemplate.update("UPDATE stats_counters SET amount = amount + 5 WHERE scope = ? AND metric = ?"
+                + " AND bucket_date = ?", scope, StatsCounters.CERTIFICATES_ISSUED, StatsCounters.TOTAL);
+        jdbcTemplate.update("UPDATE stats_counters SET amount = amount - 1 WHERE scope = ? AND metric = ?"
+                + " AND bucket_date = ?", StatsCounters.GLOBAL, StatsCounters.USERS_REGISTERED, StatsCounters.TOTAL);
+        jdbcTemplate.update("DELETE FROM stats_counters WHERE scope = ? AND metric = ?",
+                scope, StatsCounters.CERTIFICATES_REVOKED);
+        // Unflushed events are already in the tables and must not be counted twice
+        issue("stats-drift-issuer", "Not flushed yet");
+
+        statsCounters.reconcile();
+
+        StatsCounters.Snapshot snapshot = statsCounters.read(scope, LocalDate.now());
+        assertThat(snapshot.total(StatsCounters.CERTIFICATES_ISSUED)).isEqualTo(3);
+        assertThat(snapshot.total(StatsCounters.CERTIFICATES_REVOKED)).isEqualTo(1);
+        assertThat(statsCounters.read(StatsCounters.GLOBAL, LocalDate.now()).total(StatsCounters.USERS_REGISTERED))
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class));
+
+        statsCounters.reconcile();
+        assertThat(statsCounters.read(scope, LocalDate.now()).total(StatsCounters.CERTIFICATES_ISSUED)).isEqualTo(3);
+    }
+
+    private long totalIssued() {
+        return statsCounters.read(SCOPE, LocalDate.now()).total(StatsCounters.CERTIFICATES_ISSUED);
+    }
+
+    private long todayIssued() {
+        return statsCounters.read(SCOPE, LocalDate.now())
+                .between(StatsCounters.CERTIFICATES_ISSUED, LocalDate.now(), LocalDate.now().plusDays(1));
+    }
+
+    private long storedTotal(String scope, String metric) {
+        return jdbcTemplate.queryForObject("SELECT amount FROM stats_counters WHERE scope = ? AND metric = ?"
+                + " AND bucket_date = ?", Long.class, scope, metric, StatsCounters.TOTAL);
+    }
+
+    private CertificateResponse issue(String name) {
+        return issue(ISSUER, name);
+    }
+
+    private CertificateResponse issue(String issuer, String name) {
+        CertificateRequest certificate = new CertificateRequest();
+        certificate.setName(name);
+        certificate.setRecipientEmail("stats-holder@example.com");
+        certificate.setIssuedDate(LocalDate.now());
+        certificate.setSkills(Set.of("Stats"));
+        return certificateService.issueCertificate(certificate, issuer);
+    }
+
+    private void register(String username, UserRole role) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword("password123");
+        request.setRole(role);
+        authService.register(request);
+    }
+}
@@ -0,0 +1,115 @@
+package com.certifypro.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rollups on H2, so each flush merges into existing rows with UPDATE and adds new ones
+ * with INSERT. Every test uses its own issuer scope.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class VerificationEventPipelineTest {
+
+    @Autowired
+    private VerificationEventPipeline pipeline;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime started = LocalDateTime.now();
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void mergesLaterFlushesIntoTheSameBuckets() {
+        String issuer = "events-merge";
+        pipeline.publish(UUID.randomUUID(), issuer, VerificationEventPipeline.CHANNEL_VERIFICATION_ID);
+        pipeline.publish(UUID.randomUUID(), issuer, VerificationEventPipeline.CHANNEL_CERTIFICATE_ID);
+        pipeline.flush();
+        pipeline.publish(UUID.randomUUID(), issuer, VerificationEventPipeline.CHANNEL_VERIFICATION_ID);
+        pipeline.flush();
+
+        for (VerificationEventPipeline.Granularity granularity : VerificationEventPipeline.Granularity.values()) {
+            assertThat(amounts(issuer, granularity)).as(granularity.name())
+                    .containsEntry(VerificationEventPipeline.ALL_SOURCES, 3L);
+        }
+        assertThat(amounts(issuer, VerificationEventPipeline.Granularity.DAY))
+                .containsOnly(Map.entry(VerificationEventPipeline.ALL_SOURCES, 3L),
+                        Map.entry(VerificationEventPipeline.DIRECT, 3L));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM verification_events WHERE issuer_username = ?",
+                Long.class, issuer)).isEqualTo(3);
+    }
+
+    @Test
+    void foldsSourcesPastTheDailyLimitIntoOther() {
+        String issuer = "events-cap";
+        int limit = (int) ReflectionTestUtils.getField(pipeline, "maxSourcesPerDay");
+        ReflectionTestUtils.setField(pipeline, "maxSourcesPerDay", 2);
+        try {
+            publishFrom(issuer, "https://known.example/page");
+            publishFrom(issuer, null);
+            pipeline.flush();
+            // The busiest new source is admitted first; the rest of this batch goes to "other"
+            publishFrom(issuer, "https://busy.example/a");
+            publishFrom(issuer, "https://busy.example/b");
+            publishFrom(issuer, "https://rare.example/");
+            pipeline.flush();
+            // Known sources keep their rows once the limit is reached
+            publishFrom(issuer, "https://KNOWN.example/again");
+            publishFrom(issuer, "https://late.example/");
+            pipeline.flush();
+        } finally {
+            ReflectionTestUtils.setField(pipeline, "maxSourcesPerDay", limit);
+        }
+
+        assertThat(amounts(issuer, VerificationEventPipeline.Granularity.DAY)).containsOnly(
+                Map.entry(VerificationEventPipeline.ALL_SOURCES, 7L),
+                Map.entry(VerificationEventPipeline.DIRECT, 1L),
+                Map.entry("known.example", 2L),
+                Map.entry("busy.example", 2L),
+                Map.entry(VerificationEventPipeline.OTHER, 2L));
+        // Raw events keep their real source
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT source FROM verification_events"
+                + " WHERE issuer_username = ?", String.class, issuer)).contains("rare.example", "late.example");
+    }
+
+    private void publishFrom(String issuer, String referer) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (referer != null) {
+            request.addHeader(HttpHeaders.REFERER, referer);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        pipeline.publish(UUID.randomUUID(), issuer, VerificationEventPipeline.CHANNEL_VERIFICATION_ID);
+    }
+
+    // Summed over buckets since the test started, in case it ran across a bucket boundary
+    private Map<String, Long> amounts(String issuer, VerificationEventPipeline.Granularity granularity) {
+        return jdbcTemplate.queryForList("SELECT source, SUM(amount) AS amount FROM verification_rollups"
+                        + " WHERE scope = ? AND granularity = ? AND bucket_start >= ? GROUP BY source",
+                        StatsCounters.issuerScope(issuer), granularity.name(),
+                        Timestamp.valueOf(granularity.truncate(started)))
+                .stream()
+                .collect(Collectors.toMap(row -> (String) row.get("SOURCE"), row -> ((Number) row.get("AMOUNT")).longValue()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.certifypro.util;
+
+import com.certifypro.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123456000),
+                UUID.fromString("6f1c2a4e-8d3b-4c7a-9e21-0b5d4f6a7c8e"));
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded.getTimestamp()).isEqualTo(cursor.getTimestamp());
+        assertThat(decoded.getId()).isEqualTo(cursor.getId());
+    }
+
+    @Test
+    void treatsMissingCursorAsFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not base64!", "bm8tc2VwYXJhdG9y", "MjAyNC0wMS0wMXxub3QtYS11dWlk" })
+    void rejectsMalformedCursors(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void rejectsCursorWithUnparseableTimestamp() {
+        String raw = "yesterday|" + UUID.randomUUID();
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void clampsLimit() {
+        assertThat(KeysetCursor.clampLimit(null)).isEqualTo(KeysetCursor.DEFAULT_LIMIT);
+        assertThat(KeysetCursor.clampLimit(0)).isEqualTo(1);
+        assertThat(KeysetCursor.clampLimit(-5)).isEqualTo(1);
+        assertThat(KeysetCursor.clampLimit(10_000)).isEqualTo(KeysetCursor.MAX_LIMIT);
+        assertThat(KeysetCursor.clampLimit(20)).isEqualTo(20);
+    }
+}
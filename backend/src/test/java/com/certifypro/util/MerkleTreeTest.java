@@ -0,0 +1,117 @@
+package com.certifypro.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MerkleTreeTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 4, 5, 7, 8, 9, 16, 17, 33 })
+    void everyLeafProvesInclusion(int size) {
+        List<String> leaves = leaves(size);
+        MerkleTree tree = new MerkleTree(leaves);
+
+        for (int i = 0; i < size; i++) {
+            String proof = tree.proof(i);
+            assertThat(MerkleTree.verify(leaves.get(i), proof, tree.getRoot())).as("leaf %d", i).isTrue();
+            // A proof only fits its own leaf
+            String other = leaves.get((i + 1) % size);
+            if (size > 1) {
+                assertThat(MerkleTree.verify(other, proof, tree.getRoot())).as("leaf %d proof for other", i).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void proofLengthIsLogarithmic() {
+        MerkleTree tree = new MerkleTree(leaves(1000));
+
+        for (int i : new int[] { 0, 511, 999 }) {
+            assertThat(tree.proof(i).split(",")).hasSizeLessThanOrEqualTo(10);
+        }
+    }
+
+    @Test
+    void oddLeafIsPromotedNotDuplicated() {
+        List<String> leaves = leaves(3);
+        MerkleTree tree = new MerkleTree(leaves);
+
+        // The third leaf has no sibling at the bottom level, so its proof has a single step
+        assertThat(tree.proof(2).split(",")).hasSize(1);
+        // Duplicating the last leaf must not give the same root, or [a, b, c] and
+        // [a, b, c, c] would be indistinguishable
+        List<String> padded = new ArrayList<>(leaves);
+        padded.add(leaves.get(2));
+        assertThat(new MerkleTree(padded).getRoot()).isNotEqualTo(tree.getRoot());
+    }
+
+    @Test
+    void singleLeafHasEmptyProof() {
+        String leaf = leaves(1).get(0);
+        MerkleTree tree = new MerkleTree(List.of(leaf));
+
+        assertThat(tree.proof(0)).isEmpty();
+        assertThat(MerkleTree.verify(leaf, "", tree.getRoot())).isTrue();
+        assertThat(tree.getRoot()).isNotEqualTo(leaf);
+    }
+
+    @Test
+    void innerNodeCannotPassAsLeaf() {
+        List<String> leaves = leaves(4);
+        MerkleTree tree = new MerkleTree(leaves);
+        String proof = tree.proof(0);
+        // The left inner node, and the proof step that remains above it
+        String innerNode = "0x" + proof.split(",")[0].substring(1);
+        String upperStep = proof.split(",")[1];
+
+        assertThat(MerkleTree.verify(innerNode, upperStep, tree.getRoot())).isFalse();
+    }
+
+    @Test
+    void rejectsTamperedAndMalformedInput() {
+        List<String> leaves = leaves(6);
+        MerkleTree tree = new MerkleTree(leaves);
+        String proof = tree.proof(4);
+        String root = tree.getRoot();
+
+        String flippedSide = (proof.charAt(0) == 'L' ? 'R' : 'L') + proof.substring(1);
+        assertThat(MerkleTree.verify(leaves.get(4), flippedSide, root)).isFalse();
+        assertThat(MerkleTree.verify(leaves.get(4), proof, leaves(7).get(6))).isFalse();
+        assertThat(MerkleTree.verify(leaves.get(4), "X00", root)).isFalse();
+        assertThat(MerkleTree.verify(leaves.get(4), "Lzz", root)).isFalse();
+        assertThat(MerkleTree.verify(leaves.get(4), ",", root)).isFalse();
+        assertThat(MerkleTree.verify(null, proof, root)).isFalse();
+        assertThat(MerkleTree.verify(leaves.get(4), null, root)).isFalse();
+    }
+
+    @Test
+    void rejectsEmptyTree() {
+        assertThatThrownBy(() -> new MerkleTree(List.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> leaves(int size) {
+        List<String> leaves = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            leaves.add("0x" + HexFormat.of().formatHex(sha256("certificate-" + i)));
+        }
+        return leaves;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -53,6 +53,7 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
           setUser(userData);
         } catch (error) {
           localStorage.removeItem('token');
+          localStorage.removeItem('refreshToken');
           console.error('Token verification failed:', error);
         }
       }
@@ -64,8 +65,9 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
 
   const login = async (credentials: { email: string; password: string }) => {
     try {
-      const { user, token } = await authService.login(credentials);
+      const { user, token, refreshToken } = await authService.login(credentials);
       localStorage.setItem('token', token);
+      localStorage.setItem('refreshToken', refreshToken);
       setUser(user);
     } catch (error) {
       console.error('Login failed:', error);
@@ -75,8 +77,9 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
 
   const register = async (userData: { email: string; password: string; username: string; role: 'INDIVIDUAL' | 'ISSUER' | 'EMPLOYER' }) => {
     try {
-      const { user, token } = await authService.register(userData);
+      const { user, token, refreshToken } = await authService.register(userData);
       localStorage.setItem('token', token);
+      localStorage.setItem('refreshToken', refreshToken);
       setUser(user);
     } catch (error) {
       console.error('Registration failed:', error);
@@ -85,7 +88,10 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
   };
 
   const logout = () => {
-    localStorage.removeItem('token');
+    authService.logout().finally(() => {
+      localStorage.removeItem('token');
+      localStorage.removeItem('refreshToken');
+    });
     setUser(null);
   };
 
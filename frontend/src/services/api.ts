@@ -12,6 +12,49 @@ API.interceptors.request.use((req) => {
   return req;
 });
 
+// Access tokens are short-lived: on a 401, exchange the refresh token once and retry.
+// Concurrent failures share a single refresh call, since each refresh token is single-use.
+let refreshing: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+  if (!refreshing) {
+    const refreshToken = localStorage.getItem("refreshToken");
+    refreshing = (refreshToken
+      ? axios.post(`${API.defaults.baseURL}/auth/refresh`, { refreshToken }).then((response) => {
+          const { token, refreshToken: nextRefreshToken } = response.data.data;
+          localStorage.setItem("token", token);
+          localStorage.setItem("refreshToken", nextRefreshToken);
+          return token as string;
+        })
+      : Promise.reject(new Error("No refresh token"))
+    )
+      .catch((error) => {
+        localStorage.removeItem("token");
+        localStorage.removeItem("refreshToken");
+        throw error;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
+API.interceptors.response.use(
+  (response) => response,
+  async (error) => {
+    const original = error.config;
+    const isAuthCall = original?.url?.startsWith("/auth/");
+    if (error.response?.status !== 401 || !original || original._retried || isAuthCall) {
+      return Promise.reject(error);
+    }
+    original._retried = true;
+    const token = await refreshAccessToken();
+    original.headers.Authorization = `Bearer ${token}`;
+    return API(original);
+  }
+);
+
 // Profile Management APIs
 export const profileAPI = {
   updateProfile: (data: any) => API.put("/users/profile", data),
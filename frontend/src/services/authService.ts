@@ -29,6 +29,8 @@ export interface User {
 interface AuthResponse {
   user: User;
   token: string;
+  refreshToken: string;
+  expiresIn: number;
 }
 
 interface ApiResponse<T> {
@@ -66,8 +68,15 @@ class AuthService {
     }
   }
 
-  logout() {
-    // Context handles token removal
+  async logout(): Promise<void> {
+    // Revokes the access token and the whole refresh token family server-side;
+    // the context clears local storage either way
+    const refreshToken = localStorage.getItem('refreshToken');
+    try {
+      await API.post('/auth/logout', refreshToken ? { refreshToken } : undefined);
+    } catch (error) {
+      console.error('Logout request failed:', error);
+    }
   }
 }
 